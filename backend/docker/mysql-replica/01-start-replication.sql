@@ -0,0 +1,11 @@
+-- primary(mysql) 를 GTID 자동 위치로 복제 (최초 기동 시 한 번만 실행됨)
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'root',
+    SOURCE_AUTO_POSITION = 1,
+    SOURCE_CONNECT_RETRY = 5,
+    GET_SOURCE_PUBLIC_KEY = 1;
+
+START REPLICA;
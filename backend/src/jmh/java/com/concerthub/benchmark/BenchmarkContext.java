@@ -0,0 +1,109 @@
+package com.concerthub.benchmark;
+
+import com.concerthub.BackendApplication;
+import com.concerthub.domain.event.entity.Event;
+import com.concerthub.domain.event.service.EventService;
+import com.concerthub.domain.reservation.service.ReservationExpiryService;
+import com.concerthub.domain.reservation.service.ReservationService;
+import com.concerthub.domain.seat.entity.Seat;
+import com.concerthub.domain.seat.service.SeatService;
+import com.concerthub.domain.user.entity.User;
+import com.concerthub.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공용 상태
+ * H2(MySQL 모드) 위에 애플리케이션 컨텍스트를 띄우고, 최대 스레드 수만큼의 좌석/사용자를 준비한다.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkContext {
+
+    static final int MAX_THREADS = 64;
+    private static final int PRICE = 100000;
+
+    @Param({"SAME", "DISJOINT"})
+    Contention contention;
+
+    ConfigurableApplicationContext context;
+    ReservationService reservationService;
+    ReservationExpiryService reservationExpiryService;
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate transactionTemplate;
+
+    Long sharedEventId;
+    final List<Long> sharedSeatIds = new ArrayList<>();      // 공유 이벤트의 좌석 (스레드 인덱스 순)
+    final List<Long> disjointEventIds = new ArrayList<>();   // 스레드별 이벤트
+    final List<Long> disjointSeatIds = new ArrayList<>();    // 스레드별 이벤트의 좌석
+    final List<Long> userIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("bench")
+                .run();
+
+        reservationService = context.getBean(ReservationService.class);
+        reservationExpiryService = context.getBean(ReservationExpiryService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        EventService eventService = context.getBean(EventService.class);
+        SeatService seatService = context.getBean(SeatService.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        LocalDateTime eventDateTime = LocalDateTime.now().plusDays(30);
+
+        Event sharedEvent = eventService.createEvent("bench-shared", "benchmark", "bench-hall",
+                eventDateTime, MAX_THREADS, PRICE);
+        sharedEventId = sharedEvent.getId();
+        seatService.createSeats(sharedEventId, 1, MAX_THREADS, PRICE).stream()
+                .map(Seat::getId)
+                .forEach(sharedSeatIds::add);
+
+        for (int i = 0; i < MAX_THREADS; i++) {
+            Event event = eventService.createEvent("bench-" + i, "benchmark", "bench-hall",
+                    eventDateTime, 1, PRICE);
+            disjointEventIds.add(event.getId());
+            disjointSeatIds.add(seatService.createSeats(event.getId(), 1, 1, PRICE).get(0).getId());
+
+            User user = userRepository.save(User.builder()
+                    .name("bench-" + i)
+                    .email("bench-" + i + "@concerthub.local")
+                    .phoneNumber("010-0000-0000")
+                    .password("bench")
+                    .build());
+            userIds.add(user.getId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    /**
+     * 만료 처리 대상이 되도록 예약 만료 시각을 과거로 당김 (측정 구간 밖에서 호출)
+     * 커넥션이 auto-commit 꺼짐(hikari.auto-commit: false)이라 트랜잭션 안에서 실행해야 커밋된다.
+     */
+    void backdateExpiry(Long reservationId) {
+        Integer updated = transactionTemplate.execute(status -> jdbcTemplate.update(
+                "UPDATE reservations SET expires_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), reservationId));
+        if (updated == null || updated != 1) {
+            throw new IllegalStateException("예약 만료 시각 변경 실패: 예약ID=" + reservationId + ", 변경 행=" + updated);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.concerthub.benchmark;
+
+public enum Contention {
+    SAME,     // 모든 스레드가 같은 좌석(선점, 대부분 거절 경로) / 같은 이벤트의 좌석(확정, 취소, 만료)을 사용
+    DISJOINT  // 스레드마다 서로 다른 이벤트의 좌석을 사용
+}
@@ -0,0 +1,7 @@
+package com.concerthub.benchmark;
+
+import org.openjdk.jmh.annotations.Threads;
+
+@Threads(8)
+public class EightThreadReservationBenchmark extends ReservationBenchmark {
+}
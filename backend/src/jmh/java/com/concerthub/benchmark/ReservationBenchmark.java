@@ -0,0 +1,162 @@
+package com.concerthub.benchmark;
+
+import com.concerthub.domain.reservation.entity.Reservation;
+import com.concerthub.global.exception.BusinessException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 핵심 경로 벤치마크 (선점 / 확정 / 취소 / 만료)
+ * 처리량(ops/s)과 지연 시간 분포(SampleTime 의 p0.99)를 함께 측정한다.
+ * 스레드 수별 하위 클래스(1, 8, 64)로 실행하며, 각 작업의 사전 조건은 측정 구간 밖(Invocation 단위 Setup)에서 만든다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public abstract class ReservationBenchmark {
+
+    /**
+     * 좌석 선점 (실패 응답도 한 번의 작업으로 센다)
+     * SAME 은 모든 스레드가 한 좌석을 두고 경쟁하므로 스레드가 여럿이면 대부분 거절 경로(이미 선점된 좌석)를 측정한다.
+     * 성공 경로의 경합은 좌석이 스레드마다 다른 DISJOINT 와 확정/취소 벤치마크의 SAME(같은 이벤트, 다른 좌석)으로 본다.
+     */
+    @Benchmark
+    public Object hold(BenchmarkContext context, HoldState state) {
+        try {
+            Reservation reservation = context.reservationService.createReservation(
+                    state.eventId, state.seatId, state.userId);
+            state.reservationId = reservation.getId();
+            return reservation.getId();
+        } catch (BusinessException e) {
+            return e.getErrorCode();
+        }
+    }
+
+    @Benchmark
+    public Object confirm(BenchmarkContext context, PendingState state) {
+        return context.reservationService.confirmReservation(state.reservationId, "bench-payment").getId();
+    }
+
+    @Benchmark
+    public Object cancel(BenchmarkContext context, PendingState state) {
+        Long reservationId = context.reservationService.cancelReservation(state.reservationId).getId();
+        state.reservationId = null;
+        return reservationId;
+    }
+
+    @Benchmark
+    public int expire(BenchmarkContext context, ExpiredState state) {
+        int expired = context.reservationExpiryService.expireReservations(List.of(state.reservationId));
+        state.reservationId = null;
+        return expired;
+    }
+
+    /**
+     * 스레드별 좌석/사용자 배정과 이전 예약 정리
+     */
+    public abstract static class ThreadSeat {
+
+        Long eventId;
+        Long seatId;
+        Long userId;
+        Long reservationId;
+
+        @Setup(Level.Trial)
+        public void assign(BenchmarkContext context, ThreadParams threadParams) {
+            int index = threadParams.getThreadIndex();
+            userId = context.userIds.get(index);
+
+            if (context.contention == Contention.DISJOINT) {
+                eventId = context.disjointEventIds.get(index);
+                seatId = context.disjointSeatIds.get(index);
+            } else {
+                eventId = context.sharedEventId;
+                seatId = sharedSeatId(context, index);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void cleanup(BenchmarkContext context) {
+            release(context);
+        }
+
+        abstract Long sharedSeatId(BenchmarkContext context, int threadIndex);
+
+        // 확정/임시 예약을 취소해 좌석을 되돌림 (이미 만료/취소된 예약은 무시)
+        void release(BenchmarkContext context) {
+            if (reservationId == null) {
+                return;
+            }
+            try {
+                context.reservationService.cancelReservation(reservationId);
+            } catch (BusinessException ignored) {
+            }
+            reservationId = null;
+        }
+    }
+
+    /**
+     * 선점 측정용: 매 호출 전 이전에 잡은 좌석을 반납 (SAME 은 모든 스레드가 첫 좌석 하나를 공유)
+     */
+    @State(Scope.Thread)
+    public static class HoldState extends ThreadSeat {
+
+        @Override
+        Long sharedSeatId(BenchmarkContext context, int threadIndex) {
+            return context.sharedSeatIds.get(0);
+        }
+
+        @Setup(Level.Invocation)
+        public void releasePrevious(BenchmarkContext context) {
+            release(context);
+        }
+    }
+
+    /**
+     * 확정/취소 측정용: 매 호출 전 스레드 좌석에 새 임시 예약 생성
+     */
+    @State(Scope.Thread)
+    public static class PendingState extends ThreadSeat {
+
+        @Override
+        Long sharedSeatId(BenchmarkContext context, int threadIndex) {
+            return context.sharedSeatIds.get(threadIndex);
+        }
+
+        @Setup(Level.Invocation)
+        public void prepare(BenchmarkContext context) {
+            release(context);
+            reservationId = context.reservationService.createReservation(eventId, seatId, userId).getId();
+            afterHold(context);
+        }
+
+        void afterHold(BenchmarkContext context) {
+        }
+    }
+
+    /**
+     * 만료 측정용: 매 호출 전 만료 시각이 지난 임시 예약 생성
+     */
+    @State(Scope.Thread)
+    public static class ExpiredState extends PendingState {
+
+        @Override
+        void afterHold(BenchmarkContext context) {
+            context.backdateExpiry(reservationId);
+        }
+    }
+}
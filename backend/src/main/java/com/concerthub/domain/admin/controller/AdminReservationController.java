@@ -1,13 +1,12 @@
 package com.concerthub.domain.admin.controller;
 
 import com.concerthub.domain.admin.dto.request.ReservationSearchRequest;
-import com.concerthub.domain.admin.dto.response.AdminReservationResponse;
+import com.concerthub.domain.admin.dto.response.AdminReservationPageResponse;
 import com.concerthub.domain.admin.dto.response.ReservationStatsResponse;
 import com.concerthub.domain.admin.service.AdminReservationService;
 import com.concerthub.global.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,13 +20,13 @@ public class AdminReservationController {
     private final AdminReservationService adminReservationService;
 
     /**
-     * 전체 예약 내역 조회 (필터링 + 페이지네이션)
+     * 전체 예약 내역 조회 (필터링 + 커서 페이지네이션, 다음 페이지는 nextCursor 로 요청)
      */
     @GetMapping
-    public ApiResponse<Page<AdminReservationResponse>> getAllReservations(
+    public ApiResponse<AdminReservationPageResponse> getAllReservations(
             @ModelAttribute ReservationSearchRequest request) {
         
-        Page<AdminReservationResponse> reservations = adminReservationService.searchReservations(request);
+        AdminReservationPageResponse reservations = adminReservationService.searchReservations(request);
         return ApiResponse.onSuccess(reservations);
     }
 
@@ -35,13 +34,13 @@ public class AdminReservationController {
      * 이벤트별 예약 현황 조회
      */
     @GetMapping("/events/{eventId}")
-    public ApiResponse<Page<AdminReservationResponse>> getEventReservations(
+    public ApiResponse<AdminReservationPageResponse> getEventReservations(
             @PathVariable Long eventId,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size) {
         
-        Page<AdminReservationResponse> reservations = 
-                adminReservationService.getEventReservations(eventId, page, size);
+        AdminReservationPageResponse reservations = 
+                adminReservationService.getEventReservations(eventId, cursor, size);
         return ApiResponse.onSuccess(reservations);
     }
 
@@ -0,0 +1,63 @@
+package com.concerthub.domain.admin.controller;
+
+import com.concerthub.domain.seat.dto.response.SeatImportResponse;
+import com.concerthub.domain.seat.service.SeatImportService;
+import com.concerthub.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/events/{eventId}/seats")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminSeatController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final SeatImportService seatImportService;
+
+    /**
+     * 좌석 배치 대량 가져오기 (CSV: section,row,number,price)
+     */
+    @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<SeatImportResponse> importSeatsFromCsv(
+            @PathVariable Long eventId,
+            InputStream body) {
+
+        return importSeats(eventId, body, SeatImportService.Format.CSV);
+    }
+
+    /**
+     * 좌석 배치 대량 가져오기 (JSON: [{section, row, number, price}, ...])
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<SeatImportResponse> importSeatsFromJson(
+            @PathVariable Long eventId,
+            InputStream body) {
+
+        return importSeats(eventId, body, SeatImportService.Format.JSON);
+    }
+
+    /**
+     * 좌석 가져오기 진행 상황 (진행 중이거나 마지막으로 실행한 가져오기)
+     */
+    @GetMapping("/import")
+    public ApiResponse<SeatImportResponse> getImportProgress(@PathVariable Long eventId) {
+        return ApiResponse.onSuccess(SeatImportResponse.from(seatImportService.getProgress(eventId)));
+    }
+
+    private ApiResponse<SeatImportResponse> importSeats(Long eventId, InputStream body, SeatImportService.Format format) {
+        SeatImportResponse response = SeatImportResponse.from(seatImportService.importSeats(eventId, body, format));
+        return ApiResponse.onSuccess(response,
+                String.format("총 %d개의 좌석을 가져왔습니다.", response.getImportedSeats()));
+    }
+}
@@ -0,0 +1,48 @@
+package com.concerthub.domain.admin.controller;
+
+import com.concerthub.domain.event.dto.response.EventResponse;
+import com.concerthub.domain.event.entity.Event;
+import com.concerthub.domain.venue.dto.request.VenueEventCreateRequest;
+import com.concerthub.domain.venue.dto.request.VenueLayoutCreateRequest;
+import com.concerthub.domain.venue.dto.response.VenueLayoutResponse;
+import com.concerthub.domain.venue.entity.VenueLayout;
+import com.concerthub.domain.venue.service.VenueLayoutService;
+import com.concerthub.global.response.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/venue-layouts")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminVenueLayoutController {
+
+    private final VenueLayoutService venueLayoutService;
+
+    /**
+     * 공연장 배치 템플릿 등록 (구역 → 행 → 좌석 수, 행별 요금 비율)
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<VenueLayoutResponse> createLayout(@Valid @RequestBody VenueLayoutCreateRequest request) {
+        VenueLayout layout = venueLayoutService.createLayout(request);
+        return ApiResponse.onSuccess(venueLayoutService.getLayout(layout.getId()),
+                String.format("총 %d석의 공연장 배치가 등록되었습니다.", layout.getSeatCount()));
+    }
+
+    /**
+     * 공연장 배치로 이벤트 생성 (좌석까지 함께 생성)
+     */
+    @PostMapping("/{layoutId}/events")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<EventResponse> createEvent(
+            @PathVariable Long layoutId,
+            @Valid @RequestBody VenueEventCreateRequest request) {
+
+        Event event = venueLayoutService.createEvent(layoutId, request);
+        return ApiResponse.onSuccess(EventResponse.from(event), "이벤트가 성공적으로 생성되었습니다.");
+    }
+}
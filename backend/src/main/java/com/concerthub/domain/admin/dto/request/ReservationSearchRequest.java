@@ -20,12 +20,14 @@ public class ReservationSearchRequest {
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     private LocalDateTime endDate;
     
-    private String userEmail;
-    private String userName;
+    private String userEmail; // 앞부분 일치
+    private String userName;  // 앞부분 일치
     
-    // 페이지네이션
-    private int page = 0;
+    // 키셋 페이지네이션 (생성일시, ID 순)
+    private String cursor;
     private int size = 20;
-    private String sortBy = "createdAt";
     private String sortDirection = "desc";
+
+    // 근사 건수 포함 여부 (상한까지만 센다)
+    private boolean withCount = false;
 }
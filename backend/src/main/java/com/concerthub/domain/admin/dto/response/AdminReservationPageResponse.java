@@ -0,0 +1,19 @@
+package com.concerthub.domain.admin.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class AdminReservationPageResponse {
+
+    private List<AdminReservationResponse> reservations;
+    private String nextCursor;
+    private boolean hasNext;
+
+    // 근사 건수 (withCount=true 일 때만, 상한을 넘으면 상한값과 totalCountCapped=true)
+    private Long totalCount;
+    private boolean totalCountCapped;
+}
@@ -1,17 +1,18 @@
 package com.concerthub.domain.admin.service;
 
 import com.concerthub.domain.admin.dto.request.ReservationSearchRequest;
+import com.concerthub.domain.admin.dto.response.AdminReservationPageResponse;
 import com.concerthub.domain.admin.dto.response.AdminReservationResponse;
 import com.concerthub.domain.admin.dto.response.ReservationStatsResponse;
 import com.concerthub.domain.reservation.entity.Reservation;
 import com.concerthub.domain.reservation.entity.status.ReservationStatus;
 import com.concerthub.domain.reservation.repository.ReservationRepository;
+import com.concerthub.domain.reservation.repository.ReservationSearchCondition;
+import com.concerthub.domain.reservation.repository.ReservationSearchRepository;
+import com.concerthub.global.exception.BusinessException;
+import com.concerthub.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,40 +29,69 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class AdminReservationService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int COUNT_CAP = 10_000; // 근사 건수 상한 (넘으면 "10,000+" 로 표시)
+
     private final ReservationRepository reservationRepository;
+    private final ReservationSearchRepository reservationSearchRepository;
 
     /**
-     * 관리자용 예약 검색 (필터링 + 페이지네이션)
+     * 관리자용 예약 검색 (값이 있는 조건만 사용 + (생성일시, ID) 키셋 페이지네이션)
      */
-    public Page<AdminReservationResponse> searchReservations(ReservationSearchRequest request) {
-        // 정렬 설정
-        Sort.Direction direction = "desc".equalsIgnoreCase(request.getSortDirection()) 
-            ? Sort.Direction.DESC : Sort.Direction.ASC;
-        Sort sort = Sort.by(direction, request.getSortBy());
-        Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
-
-        // 검색 실행
-        Page<Reservation> reservationPage = reservationRepository.findReservationsWithFilters(
+    public AdminReservationPageResponse searchReservations(ReservationSearchRequest request) {
+        ReservationSearchCondition condition = new ReservationSearchCondition(
                 request.getEventId(),
                 request.getStatus(),
                 request.getStartDate(),
                 request.getEndDate(),
                 request.getUserEmail(),
-                request.getUserName(),
-                pageable
+                request.getUserName()
         );
-
-        // DTO 변환
-        return reservationPage.map(AdminReservationResponse::from);
+        boolean descending = !"asc".equalsIgnoreCase(request.getSortDirection());
+        return findPage(condition, request.getCursor(), request.getSize(), descending, request.isWithCount());
     }
 
     /**
-     * 이벤트별 예약 현황 조회
+     * 이벤트별 예약 현황 조회 (최신순)
      */
-    public Page<AdminReservationResponse> getEventReservations(Long eventId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Reservation> reservationPage = reservationRepository.findByEventIdWithDetails(eventId, pageable);
-        return reservationPage.map(AdminReservationResponse::from);
+    public AdminReservationPageResponse getEventReservations(Long eventId, String cursor, int size) {
+        return findPage(ReservationSearchCondition.ofEvent(eventId), cursor, size, true, false);
+    }
+
+    // 한 행을 더 읽어 다음 페이지 존재 여부를 판단 (OFFSET/COUNT 없이 페이지 크기만큼만 조회)
+    private AdminReservationPageResponse findPage(ReservationSearchCondition condition, String cursor,
+                                                  int size, boolean descending, boolean withCount) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        ReservationCursor after = ReservationCursor.decode(cursor);
+        List<Reservation> reservations = reservationSearchRepository.findPage(
+                condition,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                descending,
+                size + 1
+        );
+
+        boolean hasNext = reservations.size() > size;
+        List<Reservation> page = hasNext ? reservations.subList(0, size) : reservations;
+
+        AdminReservationPageResponse.AdminReservationPageResponseBuilder response = AdminReservationPageResponse.builder()
+                .reservations(page.stream()
+                        .map(AdminReservationResponse::from)
+                        .toList())
+                .nextCursor(hasNext ? ReservationCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext);
+
+        if (withCount) {
+            long counted = reservationSearchRepository.countUpTo(condition, COUNT_CAP);
+            response.totalCount(Math.min(counted, COUNT_CAP))
+                    .totalCountCapped(counted > COUNT_CAP);
+        }
+
+        return response.build();
     }
 
     /**
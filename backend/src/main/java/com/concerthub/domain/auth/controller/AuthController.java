@@ -2,6 +2,7 @@ package com.concerthub.domain.auth.controller;
 
 import com.concerthub.domain.auth.dto.request.LoginRequest;
 import com.concerthub.domain.auth.service.AuthService;
+import com.concerthub.global.datasource.ReadConsistency;
 import com.concerthub.global.jwt.dto.JwtDto;
 import com.concerthub.global.jwt.userdetails.CustomUserDetails;
 import com.concerthub.global.jwt.util.JwtUtil;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 @RestController
 @RequestMapping("/api/auth")
+@ReadConsistency(ReadConsistency.Level.STRONG)
 @RequiredArgsConstructor
 public class AuthController {
 
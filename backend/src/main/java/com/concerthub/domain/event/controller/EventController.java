@@ -1,9 +1,14 @@
 package com.concerthub.domain.event.controller;
 
 import com.concerthub.domain.event.dto.request.EventCreateRequest;
+import com.concerthub.domain.event.dto.request.EventSearchRequest;
 import com.concerthub.domain.event.dto.request.EventUpdateRequest;
+import com.concerthub.domain.event.dto.response.EventPageResponse;
 import com.concerthub.domain.event.dto.response.EventResponse;
+import com.concerthub.domain.event.dto.response.EventSearchResponse;
 import com.concerthub.domain.event.entity.Event;
+import com.concerthub.domain.event.service.AvailableSeatCounter;
+import com.concerthub.domain.event.service.EventPage;
 import com.concerthub.domain.event.service.EventService;
 import com.concerthub.global.response.ApiResponse;
 import jakarta.validation.Valid;
@@ -13,7 +18,6 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/events")
@@ -21,6 +25,7 @@ import java.util.stream.Collectors;
 public class EventController {
 
     private final EventService eventService;
+    private final AvailableSeatCounter availableSeatCounter;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -32,46 +37,49 @@ public class EventController {
                 request.getVenue(),
                 request.getEventDateTime(),
                 request.getTotalSeats(),
-                request.getPrice()
+                request.getPrice(),
+                request.getOnSaleAt(),
+                null
         );
 
         return ApiResponse.success(EventResponse.from(event), "이벤트가 성공적으로 생성되었습니다.");
     }
 
+    /**
+     * 이벤트 목록 (공연 일시 순 커서 페이지, 일시 범위/장소/상태/잔여석 필터)
+     */
     @GetMapping
-    public ApiResponse<List<EventResponse>> getAllEvents() {
-        List<Event> events = eventService.getAllEvents();
-        List<EventResponse> responses = events.stream()
-                .map(EventResponse::from)
-                .collect(Collectors.toList());
+    public ApiResponse<EventPageResponse> getAllEvents(@ModelAttribute EventSearchRequest request) {
+        EventPage page = eventService.getEvents(request);
+        return ApiResponse.success(EventPageResponse.from(page, this::toResponse));
+    }
 
-        return ApiResponse.success(responses);
+    /**
+     * 이벤트 검색 (제목/장소/설명, 메모리 역색인 조회)
+     */
+    @GetMapping("/search")
+    public ApiResponse<List<EventSearchResponse>> searchEvents(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(eventService.searchEvents(q, size));
     }
 
     @GetMapping("/{id}")
     public ApiResponse<EventResponse> getEvent(@PathVariable Long id) {
         Event event = eventService.getEvent(id);
-        return ApiResponse.success(EventResponse.from(event));
+        return ApiResponse.success(toResponse(event));
     }
 
     @GetMapping("/available")
-    public ApiResponse<List<EventResponse>> getAvailableEvents() {
-        List<Event> events = eventService.getAvailableEvents();
-        List<EventResponse> responses = events.stream()
-                .map(EventResponse::from)
-                .collect(Collectors.toList());
-
-        return ApiResponse.success(responses);
+    public ApiResponse<EventPageResponse> getAvailableEvents(@ModelAttribute EventSearchRequest request) {
+        EventPage page = eventService.getAvailableEvents(request);
+        return ApiResponse.success(EventPageResponse.from(page, this::toResponse));
     }
 
     @GetMapping("/upcoming")
-    public ApiResponse<List<EventResponse>> getUpcomingEvents() {
-        List<Event> events = eventService.getUpcomingEvents();
-        List<EventResponse> responses = events.stream()
-                .map(EventResponse::from)
-                .collect(Collectors.toList());
-
-        return ApiResponse.success(responses);
+    public ApiResponse<EventPageResponse> getUpcomingEvents(@ModelAttribute EventSearchRequest request) {
+        EventPage page = eventService.getUpcomingEvents(request);
+        return ApiResponse.success(EventPageResponse.from(page, this::toResponse));
     }
 
     @PutMapping("/{id}")
@@ -86,10 +94,11 @@ public class EventController {
                 request.getVenue(),
                 request.getEventDateTime(),
                 request.getTotalSeats(),
-                request.getPrice()
+                request.getPrice(),
+                request.getOnSaleAt()
         );
 
-        return ApiResponse.success(EventResponse.from(event), "이벤트가 성공적으로 수정되었습니다.");
+        return ApiResponse.success(toResponse(event), "이벤트가 성공적으로 수정되었습니다.");
     }
 
     @DeleteMapping("/{id}")
@@ -99,4 +108,8 @@ public class EventController {
         eventService.deleteEvent(id);
         return ApiResponse.success(null, "이벤트가 성공적으로 삭제되었습니다.");
     }
-}
\ No newline at end of file
+
+    private EventResponse toResponse(Event event) {
+        return EventResponse.from(event, availableSeatCounter.getAvailableSeats(event));
+    }
+}
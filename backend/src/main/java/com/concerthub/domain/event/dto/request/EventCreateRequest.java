@@ -33,4 +33,7 @@ public class EventCreateRequest {
     @NotNull(message = "가격은 필수입니다.")
     @Min(value = 0, message = "가격은 0 이상이어야 합니다.")
     private Integer price;
+
+    @Future(message = "예매 오픈 시각은 현재 시간 이후여야 합니다.")
+    private LocalDateTime onSaleAt; // 비우면 즉시 예매 가능
 }
\ No newline at end of file
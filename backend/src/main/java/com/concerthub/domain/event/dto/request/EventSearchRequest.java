@@ -0,0 +1,28 @@
+package com.concerthub.domain.event.dto.request;
+
+import com.concerthub.domain.event.entity.status.EventStatus;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class EventSearchRequest {
+
+    // 공연 일시 범위 [from, to)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private String venue;
+    private EventStatus status;
+    private boolean available;   // 잔여석 있는 이벤트만
+
+    // 키셋 페이지네이션 (직전 응답의 nextCursor)
+    private String cursor;
+    private int size = 20;
+}
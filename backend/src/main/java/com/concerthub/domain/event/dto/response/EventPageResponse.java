@@ -0,0 +1,28 @@
+package com.concerthub.domain.event.dto.response;
+
+import com.concerthub.domain.event.entity.Event;
+import com.concerthub.domain.event.service.EventPage;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Builder
+public class EventPageResponse {
+
+    private List<EventResponse> events;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static EventPageResponse from(EventPage page, Function<Event, EventResponse> mapper) {
+        return EventPageResponse.builder()
+                .events(page.events().stream()
+                        .map(mapper)
+                        .toList())
+                .nextCursor(page.nextCursor())
+                .hasNext(page.hasNext())
+                .build();
+    }
+}
@@ -20,10 +20,17 @@ public class EventResponse {
     private Integer availableSeats;
     private Integer price;
     private EventStatus status;
+    private LocalDateTime onSaleAt;
+    private Long venueLayoutId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     public static EventResponse from(Event event) {
+        return from(event, event.getAvailableSeats());
+    }
+
+    // 아직 DB 에 병합되지 않은 잔여석 증감분을 반영한 값으로 응답
+    public static EventResponse from(Event event, int availableSeats) {
         return EventResponse.builder()
                 .id(event.getId())
                 .title(event.getTitle())
@@ -31,9 +38,11 @@ public class EventResponse {
                 .venue(event.getVenue())
                 .eventDateTime(event.getEventDateTime())
                 .totalSeats(event.getTotalSeats())
-                .availableSeats(event.getAvailableSeats())
+                .availableSeats(availableSeats)
                 .price(event.getPrice())
                 .status(event.getStatus())
+                .onSaleAt(event.getOnSaleAt())
+                .venueLayoutId(event.getVenueLayoutId())
                 .createdAt(event.getCreatedAt())
                 .updatedAt(event.getUpdatedAt())
                 .build();
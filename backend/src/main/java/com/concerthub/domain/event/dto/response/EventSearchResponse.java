@@ -0,0 +1,33 @@
+package com.concerthub.domain.event.dto.response;
+
+import com.concerthub.domain.event.entity.status.EventStatus;
+import com.concerthub.domain.event.service.EventSnapshot;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class EventSearchResponse {
+
+    private Long id;
+    private String title;
+    private String venue;
+    private LocalDateTime eventDateTime;
+    private Integer price;
+    private EventStatus status;
+    private int score;   // 검색 점수 (제목 > 장소 > 설명 순 가중치)
+
+    public static EventSearchResponse of(EventSnapshot event, int score) {
+        return EventSearchResponse.builder()
+                .id(event.id())
+                .title(event.title())
+                .venue(event.venue())
+                .eventDateTime(event.eventDateTime())
+                .price(event.price())
+                .status(event.status())
+                .score(score)
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,7 +14,14 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events",
+        indexes = {
+                @Index(name = "idx_events_date_time_id", columnList = "event_date_time, id"),
+                @Index(name = "idx_events_status_date_time_id", columnList = "status, event_date_time, id"),
+                @Index(name = "idx_events_venue_date_time_id", columnList = "venue, event_date_time, id"),
+                @Index(name = "idx_events_on_sale_at", columnList = "on_sale_at")
+        })
+@DynamicUpdate // 잔여석은 AvailableSeatCounter 가 별도 UPDATE 로 병합하므로 변경된 컬럼만 갱신
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -48,6 +56,12 @@ public class Event {
     @Column(nullable = false)
     private EventStatus status;
 
+    @Column
+    private LocalDateTime onSaleAt;  // 예매 오픈 시각 (null 이면 생성 즉시 예매 가능)
+
+    @Column
+    private Long venueLayoutId;  // 좌석을 복제해 온 공연장 배치 (직접 생성한 좌석이면 null)
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -58,7 +72,8 @@ public class Event {
 
     @Builder
     public Event(String title, String description, String venue,
-                 LocalDateTime eventDateTime, Integer totalSeats, Integer price) {
+                 LocalDateTime eventDateTime, Integer totalSeats, Integer price,
+                 LocalDateTime onSaleAt, Long venueLayoutId) {
         this.title = title;
         this.description = description;
         this.venue = venue;
@@ -66,50 +81,19 @@ public class Event {
         this.totalSeats = totalSeats;
         this.availableSeats = totalSeats; // 초기에는 전체 좌석이 모두 available
         this.price = price;
+        this.onSaleAt = onSaleAt;
+        this.venueLayoutId = venueLayoutId;
         this.status = EventStatus.OPEN;
     }
 
-    // 비즈니스 로직
-    public void decreaseAvailableSeats() {
-        if (this.availableSeats <= 0) {
-            throw new IllegalStateException("예약 가능한 좌석이 없습니다.");
-        }
-        this.availableSeats--;
-
-        if (this.availableSeats == 0) {
-            this.status = EventStatus.SOLD_OUT;
-        }
-    }
-
-    public void increaseAvailableSeats() {
-        if (this.availableSeats >= this.totalSeats) {
-            throw new IllegalStateException("가용 좌석이 전체 좌석보다 클 수 없습니다.");
-        }
-        this.availableSeats++;
-        this.status = EventStatus.OPEN;
-    }
-
-    // 기존 코드에 추가
+    // 좌석 수는 EventRepository.resizeSeats 가 상대 UPDATE 로 변경 (병합된 잔여석 증감분 보존)
     public void updateEvent(String title, String description, String venue,
-                            LocalDateTime eventDateTime, Integer totalSeats, Integer price) {
+                            LocalDateTime eventDateTime, Integer price, LocalDateTime onSaleAt) {
         if (title != null) this.title = title;
         if (description != null) this.description = description;
         if (venue != null) this.venue = venue;
         if (eventDateTime != null) this.eventDateTime = eventDateTime;
         if (price != null) this.price = price;
-
-        if (totalSeats != null) {
-            // 좌석 수 변경 시 available 좌석도 조정
-            int reservedSeats = this.totalSeats - this.availableSeats;
-            this.totalSeats = totalSeats;
-            this.availableSeats = totalSeats - reservedSeats;
-
-            // 매진 상태 재계산
-            if (this.availableSeats <= 0) {
-                this.status = EventStatus.SOLD_OUT;
-            } else {
-                this.status = EventStatus.OPEN;
-            }
-        }
+        if (onSaleAt != null) this.onSaleAt = onSaleAt;
     }
 }
\ No newline at end of file
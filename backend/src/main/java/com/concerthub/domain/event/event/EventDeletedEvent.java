@@ -0,0 +1,7 @@
+package com.concerthub.domain.event.event;
+
+/**
+ * 이벤트 삭제 이벤트 (커밋 이후 이벤트별 인메모리 상태 정리용)
+ */
+public record EventDeletedEvent(Long eventId) {
+}
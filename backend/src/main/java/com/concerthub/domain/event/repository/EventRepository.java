@@ -3,9 +3,11 @@ package com.concerthub.domain.event.repository;
 import com.concerthub.domain.event.entity.Event;
 import com.concerthub.domain.event.entity.status.EventStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,13 +18,55 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     // 상태별 이벤트 조회
     List<Event> findByStatus(EventStatus status);
 
-    // 특정 날짜 이후 이벤트 조회 (예정된 이벤트)
-    List<Event> findByEventDateTimeAfterOrderByEventDateTimeAsc(LocalDateTime dateTime);
+    // 예매 오픈 시각이 구간 안에 있는 이벤트 (오픈 직전 사전 준비용)
+    List<Event> findByOnSaleAtBetween(LocalDateTime from, LocalDateTime to);
 
-    // 예약 가능한 이벤트 조회 (잔여석 있는 OPEN 상태)
-    @Query("SELECT e FROM Event e WHERE e.status = :status AND e.availableSeats > 0")
-    List<Event> findAvailableEvents(@Param("status") EventStatus status);
+    // 잔여석 증감분 병합 (상태를 먼저 계산해야 갱신 전 잔여석 기준으로 판단됨)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE events SET " +
+                   "status = CASE WHEN status IN ('OPEN', 'SOLD_OUT') THEN " +
+                   "(CASE WHEN GREATEST(0, LEAST(total_seats, available_seats + :delta)) = 0 " +
+                   "THEN 'SOLD_OUT' ELSE 'OPEN' END) ELSE status END, " +
+                   "available_seats = GREATEST(0, LEAST(total_seats, available_seats + :delta)), " +
+                   "updated_at = :now " +
+                   "WHERE id = :eventId", nativeQuery = true)
+    int applyAvailableSeatDelta(@Param("eventId") Long eventId,
+                                @Param("delta") int delta,
+                                @Param("now") LocalDateTime now);
 
-    // 장소별 이벤트 조회
-    List<Event> findByVenueContainingIgnoreCase(String venue);
-}
\ No newline at end of file
+    // 전체 좌석 수 변경 (잔여석은 차이만큼 상대 증감, SET 은 왼쪽부터 적용되므로 total_seats 를 마지막에 갱신)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE events SET " +
+                   "status = CASE WHEN status IN ('OPEN', 'SOLD_OUT') THEN " +
+                   "(CASE WHEN GREATEST(0, LEAST(:totalSeats, available_seats + (:totalSeats - total_seats))) = 0 " +
+                   "THEN 'SOLD_OUT' ELSE 'OPEN' END) ELSE status END, " +
+                   "available_seats = GREATEST(0, LEAST(:totalSeats, available_seats + (:totalSeats - total_seats))), " +
+                   "total_seats = :totalSeats, " +
+                   "updated_at = :now " +
+                   "WHERE id = :eventId", nativeQuery = true)
+    int resizeSeats(@Param("eventId") Long eventId,
+                    @Param("totalSeats") int totalSeats,
+                    @Param("now") LocalDateTime now);
+
+    // 확정 좌석 수 기준 잔여석 재계산 (값이 어긋난 이벤트만)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE events e SET " +
+                   "available_seats = GREATEST(0, e.total_seats - " +
+                   "(SELECT COUNT(*) FROM seats s WHERE s.event_id = e.id AND s.status = 'RESERVED')), " +
+                   "updated_at = :now " +
+                   "WHERE e.available_seats <> GREATEST(0, e.total_seats - " +
+                   "(SELECT COUNT(*) FROM seats s WHERE s.event_id = e.id AND s.status = 'RESERVED'))", nativeQuery = true)
+    int reconcileAvailableSeats(@Param("now") LocalDateTime now);
+
+    // 잔여석 기준 매진 상태 재계산
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE events SET " +
+                   "status = CASE WHEN available_seats = 0 THEN 'SOLD_OUT' ELSE 'OPEN' END, " +
+                   "updated_at = :now " +
+                   "WHERE status IN ('OPEN', 'SOLD_OUT') " +
+                   "AND status <> CASE WHEN available_seats = 0 THEN 'SOLD_OUT' ELSE 'OPEN' END", nativeQuery = true)
+    int reconcileSoldOutStatus(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,22 @@
+package com.concerthub.domain.event.repository;
+
+import com.concerthub.domain.event.entity.status.EventStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 목록 조건 (null 이거나 빈 값인 조건은 WHERE 절에 넣지 않는다)
+ * from 이상, to 미만의 공연 일시. available 이면 잔여석이 있는 이벤트만.
+ */
+public record EventSearchCondition(
+        LocalDateTime from,
+        LocalDateTime to,
+        String venue,
+        EventStatus status,
+        boolean available
+) {
+
+    public EventSearchCondition {
+        venue = venue == null || venue.isBlank() ? null : venue.trim();
+    }
+}
@@ -0,0 +1,78 @@
+package com.concerthub.domain.event.repository;
+
+import com.concerthub.domain.event.entity.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이벤트 목록 저장소
+ * 값이 있는 조건만 WHERE 절에 넣어 (:x IS NULL OR ...) 없이 조건별 (venue|status, event_date_time, id) 인덱스를 타게 하고,
+ * (event_date_time, id) 키셋으로 페이지를 넘긴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventSearchRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 키셋 다음 페이지 조회 (afterDateTime 이 null 이면 첫 페이지)
+     */
+    public List<Event> findPage(EventSearchCondition condition,
+                                LocalDateTime afterDateTime, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> event = query.from(Event.class);
+
+        Expression<LocalDateTime> eventDateTime = event.get("eventDateTime");
+        Expression<Long> id = event.get("id");
+
+        List<Predicate> predicates = buildPredicates(cb, event, condition);
+        if (afterDateTime != null) {
+            // (event_date_time, id) 가 커서보다 뒤인 행: 일시가 같으면 id 로 구분
+            predicates.add(cb.or(
+                    cb.greaterThan(eventDateTime, afterDateTime),
+                    cb.and(cb.equal(eventDateTime, afterDateTime), cb.greaterThan(id, afterId))));
+        }
+
+        query.select(event)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(eventDateTime), cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private List<Predicate> buildPredicates(CriteriaBuilder cb, Root<Event> event, EventSearchCondition condition) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (condition.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(event.<LocalDateTime>get("eventDateTime"), condition.from()));
+        }
+        if (condition.to() != null) {
+            predicates.add(cb.lessThan(event.<LocalDateTime>get("eventDateTime"), condition.to()));
+        }
+        if (condition.venue() != null) {
+            predicates.add(cb.equal(event.get("venue"), condition.venue()));
+        }
+        if (condition.status() != null) {
+            predicates.add(cb.equal(event.get("status"), condition.status()));
+        }
+        if (condition.available()) {
+            predicates.add(cb.greaterThan(event.<Integer>get("availableSeats"), 0));
+        }
+
+        return predicates;
+    }
+}
@@ -0,0 +1,7 @@
+package com.concerthub.domain.event.search;
+
+/**
+ * 검색 결과 한 건 (이벤트 ID 와 가중치 점수)
+ */
+public record EventSearchHit(Long eventId, int score) {
+}
@@ -0,0 +1,188 @@
+package com.concerthub.domain.event.search;
+
+import com.concerthub.domain.event.entity.Event;
+import com.concerthub.domain.event.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 이벤트 제목/장소/설명 역색인
+ * n-gram → (이벤트 ID → 등장 필드) 게시 목록을 메모리에 두고, 검색은 DB 를 거치지 않고 교집합과 필드 가중치로 순위를 매긴다.
+ * 기동 시 전체를 적재하고 이후에는 EventService 의 생성/수정/삭제 커밋마다 해당 이벤트만 다시 색인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSearchIndex {
+
+    // 게시 목록 값: 토큰이 등장한 필드 비트
+    private static final int TITLE = 1;
+    private static final int VENUE = 1 << 1;
+    private static final int DESCRIPTION = 1 << 2;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int VENUE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final EventRepository eventRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private Map<Long, IndexedEvent> documents = new HashMap<>();
+
+    /**
+     * 전체 재색인 (새 색인을 만든 뒤 교체하므로 그동안에도 검색 가능)
+     * 다른 인스턴스에서 변경된 이벤트도 여기서 반영되고, 적재 도중 들어온 단건 색인이 덮여도 다음 재색인에서 맞춰진다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<String, Map<Long, Integer>> newPostings = new HashMap<>();
+        Map<Long, IndexedEvent> newDocuments = new HashMap<>();
+        for (Event event : eventRepository.findAll()) {
+            add(newPostings, newDocuments, event.getId(), event.getTitle(), event.getVenue(),
+                    event.getDescription(), event.getEventDateTime());
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("이벤트 검색 색인 적재 완료: 이벤트 {}건, 토큰 {}개", newDocuments.size(), newPostings.size());
+    }
+
+    /**
+     * 이벤트 한 건 (재)색인
+     */
+    public void index(Long eventId, String title, String venue, String description, LocalDateTime eventDateTime) {
+        lock.writeLock().lock();
+        try {
+            remove(postings, documents, eventId);
+            add(postings, documents, eventId, title, venue, description, eventDateTime);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            remove(postings, documents, eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 이벤트를 점수 내림차순 (동점이면 공연 일시가 빠른 순)으로 반환
+     */
+    public List<EventSearchHit> search(String query, int limit) {
+        Set<String> tokens = NgramTokenizer.queryTokens(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Map<Long, Integer> list = postings.get(token);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            // 가장 짧은 게시 목록을 기준으로 교집합
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            List<ScoredEvent> matches = new ArrayList<>();
+            candidates:
+            for (Map.Entry<Long, Integer> candidate : lists.get(0).entrySet()) {
+                Long eventId = candidate.getKey();
+                int score = weight(candidate.getValue());
+                for (int i = 1; i < lists.size(); i++) {
+                    Integer fields = lists.get(i).get(eventId);
+                    if (fields == null) {
+                        continue candidates;
+                    }
+                    score += weight(fields);
+                }
+                matches.add(new ScoredEvent(eventId, score, documents.get(eventId).eventDateTime()));
+            }
+
+            return matches.stream()
+                    .sorted(Comparator.comparingInt(ScoredEvent::score).reversed()
+                            .thenComparing(ScoredEvent::eventDateTime)
+                            .thenComparing(ScoredEvent::eventId))
+                    .limit(limit)
+                    .map(match -> new EventSearchHit(match.eventId(), match.score()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void add(Map<String, Map<Long, Integer>> postings, Map<Long, IndexedEvent> documents,
+                            Long eventId, String title, String venue, String description, LocalDateTime eventDateTime) {
+        Map<String, Integer> fieldsByToken = new HashMap<>();
+        addField(fieldsByToken, title, TITLE);
+        addField(fieldsByToken, venue, VENUE);
+        addField(fieldsByToken, description, DESCRIPTION);
+
+        fieldsByToken.forEach((token, fields) ->
+                postings.computeIfAbsent(token, key -> new HashMap<>()).put(eventId, fields));
+        documents.put(eventId, new IndexedEvent(eventDateTime, Set.copyOf(fieldsByToken.keySet())));
+    }
+
+    private static void addField(Map<String, Integer> fieldsByToken, String text, int field) {
+        for (String token : NgramTokenizer.indexTokens(text)) {
+            fieldsByToken.merge(token, field, (a, b) -> a | b);
+        }
+    }
+
+    private static void remove(Map<String, Map<Long, Integer>> postings, Map<Long, IndexedEvent> documents,
+                               Long eventId) {
+        IndexedEvent previous = documents.remove(eventId);
+        if (previous == null) {
+            return;
+        }
+
+        for (String token : previous.tokens()) {
+            Map<Long, Integer> list = postings.get(token);
+            if (list != null) {
+                list.remove(eventId);
+                if (list.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    // 토큰이 등장한 필드 중 가장 높은 가중치
+    private static int weight(int fields) {
+        if ((fields & TITLE) != 0) {
+            return TITLE_WEIGHT;
+        }
+        return (fields & VENUE) != 0 ? VENUE_WEIGHT : DESCRIPTION_WEIGHT;
+    }
+
+    private record IndexedEvent(LocalDateTime eventDateTime, Set<String> tokens) {
+    }
+
+    private record ScoredEvent(Long eventId, int score, LocalDateTime eventDateTime) {
+    }
+}
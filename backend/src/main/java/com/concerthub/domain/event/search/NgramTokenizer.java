@@ -0,0 +1,67 @@
+package com.concerthub.domain.event.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 검색용 n-gram 토크나이저
+ * 한글은 형태소 분석 없이도 부분 일치가 되도록, 영문/숫자와 함께 단어별 2-gram 으로 자른다.
+ * 색인 시에는 한 글자 검색어도 찾을 수 있도록 1-gram 도 함께 만든다.
+ */
+final class NgramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 (1-gram + 2-gram)
+     */
+    static Set<String> indexTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+            }
+            addBigrams(word, tokens);
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 토큰 (두 글자 이상 단어는 2-gram, 한 글자 단어는 그대로)
+     */
+    static Set<String> queryTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            if (word.length() < GRAM_SIZE) {
+                tokens.add(word);
+            } else {
+                addBigrams(word, tokens);
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String word, Set<String> tokens) {
+        for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+            tokens.add(word.substring(i, i + GRAM_SIZE));
+        }
+    }
+
+    // 전각/반각 등은 NFKC 로 통일하고 대소문자 무시
+    private static String[] words(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return WORD_SEPARATOR.splitAsStream(normalized)
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+}
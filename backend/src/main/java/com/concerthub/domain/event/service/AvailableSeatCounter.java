@@ -0,0 +1,102 @@
+package com.concerthub.domain.event.service;
+
+import com.concerthub.domain.event.entity.Event;
+import com.concerthub.domain.event.repository.EventRepository;
+import com.concerthub.domain.seat.entity.status.SeatStatus;
+import com.concerthub.domain.seat.event.SeatStatusChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이벤트 잔여석 카운터
+ * 확정/취소 시 events 행을 바로 갱신하지 않고 이벤트별 메모리 증감분(LongAdder)에 누적한 뒤
+ * 주기적으로 한 번의 UPDATE 로 병합한다. 인기 이벤트의 확정 요청이 단일 행 락에 줄 서지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailableSeatCounter {
+
+    private final EventRepository eventRepository;
+    private final EventCache eventCache;
+
+    private final Map<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+
+    /**
+     * 기동 시 좌석 확정 상태 기준으로 잔여석 재계산 (비정상 종료로 잃은 증감분 보정)
+     * 요청을 받기 전에 끝나야 재계산과 새 증감분이 겹치지 않는다.
+     */
+    @PostConstruct
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = eventRepository.reconcileAvailableSeats(now);
+        eventRepository.reconcileSoldOutStatus(now);
+        eventCache.invalidateAll();
+        log.info("이벤트 잔여석 재계산 완료: {}건", updated);
+    }
+
+    /**
+     * 커밋된 좌석 확정/확정 취소를 증감분에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        boolean wasReserved = event.previousStatus() == SeatStatus.RESERVED;
+        boolean isReserved = event.currentStatus() == SeatStatus.RESERVED;
+        if (wasReserved == isReserved) {
+            return;
+        }
+
+        pendingDeltas.computeIfAbsent(event.eventId(), id -> new LongAdder())
+                .add(isReserved ? -1 : 1);
+    }
+
+    /**
+     * DB 값에 아직 병합되지 않은 증감분을 더한 잔여석
+     */
+    public int getAvailableSeats(Event event) {
+        LongAdder delta = pendingDeltas.get(event.getId());
+        if (delta == null) {
+            return event.getAvailableSeats();
+        }
+
+        long merged = event.getAvailableSeats() + delta.sum();
+        return (int) Math.max(0, Math.min(event.getTotalSeats(), merged));
+    }
+
+    /**
+     * 누적된 증감분을 이벤트별 UPDATE 한 번으로 병합 (잔여석 0 이 되면 SOLD_OUT 전환)
+     */
+    public void flush() {
+        pendingDeltas.forEach((eventId, adder) -> {
+            long delta = adder.sum();
+            if (delta == 0) {
+                return;
+            }
+
+            // 읽은 만큼만 차감해 병합 중 들어온 증감분은 다음 주기로 넘긴다
+            adder.add(-delta);
+            try {
+                eventRepository.applyAvailableSeatDelta(eventId, (int) delta, LocalDateTime.now());
+                eventCache.invalidate(eventId); // SOLD_OUT ↔ OPEN 전환이 있었을 수 있음
+            } catch (RuntimeException e) {
+                adder.add(delta);
+                log.error("잔여석 병합 실패: 이벤트ID={}, 증감={}", eventId, delta, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
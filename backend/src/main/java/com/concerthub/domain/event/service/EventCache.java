@@ -0,0 +1,75 @@
+package com.concerthub.domain.event.service;
+
+import com.concerthub.domain.event.repository.EventRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 이벤트 스냅샷 근거리 캐시
+ * 좌석/예약 요청마다 이벤트 존재와 상태만 확인하려고 events 를 다시 읽지 않도록
+ * 불변 스냅샷을 크기/TTL 제한 메모리 캐시에 두고, 만료 전에 백그라운드에서 다시 읽어 둔다.
+ * 없는 이벤트는 캐시하지 않는다. (생성 직후 바로 보이도록)
+ * 적중/미스 지표는 actuator 의 cache.gets{cache=events} 로 노출된다.
+ */
+@Component
+public class EventCache {
+
+    public static final String CACHE_NAME = "events";
+
+    private final EventRepository eventRepository;
+    private final LoadingCache<Long, EventSnapshot> cache;
+
+    public EventCache(EventRepository eventRepository,
+                      MeterRegistry meterRegistry,
+                      @Value("${event.cache.maximum-size:1000}") long maximumSize,
+                      @Value("${event.cache.ttl-seconds:60}") long ttlSeconds,
+                      @Value("${event.cache.refresh-seconds:30}") long refreshSeconds) {
+        this.eventRepository = eventRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .refreshAfterWrite(Duration.ofSeconds(refreshSeconds))
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<EventSnapshot> get(Long eventId) {
+        return Optional.ofNullable(cache.get(eventId));
+    }
+
+    /**
+     * 이벤트 변경 시 무효화
+     * 트랜잭션 안이면 완료 후에도 한 번 더 비워, 커밋 전에 다시 읽힌 값이 남지 않게 한다.
+     */
+    public void invalidate(Long eventId) {
+        cache.invalidate(eventId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(eventId);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private EventSnapshot load(Long eventId) {
+        return eventRepository.findById(eventId)
+                .map(EventSnapshot::from)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,47 @@
+package com.concerthub.domain.event.service;
+
+import com.concerthub.domain.event.entity.Event;
+import com.concerthub.global.exception.BusinessException;
+import com.concerthub.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 이벤트 목록 키셋 커서 (마지막으로 내려준 행의 (event_date_time, id))
+ * 클라이언트에는 불투명한 문자열로만 노출한다.
+ */
+public record EventCursor(LocalDateTime eventDateTime, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static EventCursor of(Event event) {
+        return new EventCursor(event.getEventDateTime(), event.getId());
+    }
+
+    public String encode() {
+        String raw = eventDateTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지로 보고 null)
+     */
+    public static EventCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new EventCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다.");
+        }
+    }
+}
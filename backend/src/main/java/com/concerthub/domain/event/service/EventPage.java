@@ -0,0 +1,15 @@
+package com.concerthub.domain.event.service;
+
+import com.concerthub.domain.event.entity.Event;
+
+import java.util.List;
+
+/**
+ * 이벤트 목록 한 페이지 (다음 페이지가 없으면 nextCursor 는 null)
+ */
+public record EventPage(List<Event> events, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -1,15 +1,27 @@
 package com.concerthub.domain.event.service;
 
+import com.concerthub.domain.event.dto.request.EventSearchRequest;
+import com.concerthub.domain.event.dto.response.EventSearchResponse;
 import com.concerthub.domain.event.entity.Event;
 import com.concerthub.domain.event.entity.status.EventStatus;
+import com.concerthub.domain.event.event.EventDeletedEvent;
 import com.concerthub.domain.event.repository.EventRepository;
+import com.concerthub.domain.event.repository.EventSearchCondition;
+import com.concerthub.domain.event.repository.EventSearchRepository;
+import com.concerthub.domain.event.search.EventSearchHit;
+import com.concerthub.domain.event.search.EventSearchIndex;
 import com.concerthub.global.exception.BusinessException;
 import com.concerthub.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -17,11 +29,27 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class EventService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final EventRepository eventRepository;
+    private final EventSearchRepository eventSearchRepository;
+    private final AvailableSeatCounter availableSeatCounter;
+    private final EventCache eventCache;
+    private final EventSearchIndex eventSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Event createEvent(String title, String description, String venue,
                              LocalDateTime eventDateTime, Integer totalSeats, Integer price) {
+        return createEvent(title, description, venue, eventDateTime, totalSeats, price, null, null);
+    }
+
+    @Transactional
+    public Event createEvent(String title, String description, String venue,
+                             LocalDateTime eventDateTime, Integer totalSeats, Integer price,
+                             LocalDateTime onSaleAt, Long venueLayoutId) {
+        validateOnSaleAt(onSaleAt, eventDateTime);
+
         Event event = Event.builder()
                 .title(title)
                 .description(description)
@@ -29,9 +57,13 @@ public class EventService {
                 .eventDateTime(eventDateTime)
                 .totalSeats(totalSeats)
                 .price(price)
+                .onSaleAt(onSaleAt)
+                .venueLayoutId(venueLayoutId)
                 .build();
 
-        return eventRepository.save(event);
+        Event savedEvent = eventRepository.save(event);
+        indexAfterCommit(savedEvent);
+        return savedEvent;
     }
 
     public Event getEvent(Long eventId) {
@@ -39,30 +71,114 @@ public class EventService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.EVENT_NOT_FOUND));
     }
 
-    public List<Event> getAllEvents() {
-        return eventRepository.findAll();
+    /**
+     * 이벤트 스냅샷 조회 (존재/상태 확인용, 캐시 적중 시 DB 조회 없음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public EventSnapshot getEventSnapshot(Long eventId) {
+        return eventCache.get(eventId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.EVENT_NOT_FOUND));
+    }
+
+    /**
+     * 연관관계 설정용 이벤트 참조 (조회하지 않는 프록시, 존재 확인은 getEventSnapshot 으로)
+     */
+    public Event getEventReference(Long eventId) {
+        return eventRepository.getReferenceById(eventId);
     }
 
-    public List<Event> getAvailableEvents() {
-        return eventRepository.findAvailableEvents(EventStatus.OPEN);
+    /**
+     * 이벤트 목록 (공연 일시, ID 순 키셋 페이지)
+     */
+    public EventPage getEvents(EventSearchRequest request) {
+        return findPage(request, request.getFrom(), request.getStatus(), request.isAvailable());
+    }
+
+    /**
+     * 예약 가능한 이벤트 목록 (잔여석 있는 OPEN 상태)
+     */
+    public EventPage getAvailableEvents(EventSearchRequest request) {
+        return findPage(request, request.getFrom(), EventStatus.OPEN, true);
+    }
+
+    /**
+     * 예정된 이벤트 목록 (현재 시각 이후)
+     */
+    public EventPage getUpcomingEvents(EventSearchRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = request.getFrom() != null && request.getFrom().isAfter(now) ? request.getFrom() : now;
+        return findPage(request, from, request.getStatus(), request.isAvailable());
+    }
+
+    /**
+     * 제목/장소/설명 검색 (메모리 역색인에서 순위 계산, 결과는 이벤트 스냅샷 캐시에서 채움)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<EventSearchResponse> searchEvents(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "검색어를 입력해주세요.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        List<EventSearchResponse> responses = new ArrayList<>();
+        for (EventSearchHit hit : eventSearchIndex.search(query, size)) {
+            eventCache.get(hit.eventId())
+                    .ifPresent(event -> responses.add(EventSearchResponse.of(event, hit.score())));
+        }
+        return responses;
     }
 
-    public List<Event> getUpcomingEvents() {
-        return eventRepository.findByEventDateTimeAfterOrderByEventDateTimeAsc(LocalDateTime.now());
+    // 한 행을 더 읽어 다음 페이지 존재 여부를 판단 (COUNT 없이 페이지 크기만큼만 조회)
+    private EventPage findPage(EventSearchRequest request, LocalDateTime from, EventStatus status, boolean available) {
+        if (request.getSize() < 1 || request.getSize() > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        EventCursor cursor = EventCursor.decode(request.getCursor());
+        EventSearchCondition condition = new EventSearchCondition(
+                from, request.getTo(), request.getVenue(), status, available);
+
+        List<Event> events = eventSearchRepository.findPage(
+                condition,
+                cursor != null ? cursor.eventDateTime() : null,
+                cursor != null ? cursor.id() : null,
+                request.getSize() + 1
+        );
+
+        if (events.size() <= request.getSize()) {
+            return new EventPage(events, null);
+        }
+
+        List<Event> page = events.subList(0, request.getSize());
+        return new EventPage(page, EventCursor.of(page.get(page.size() - 1)).encode());
     }
 
     @Transactional
     public Event updateEvent(Long eventId, String title, String description, String venue,
-                             LocalDateTime eventDateTime, Integer totalSeats, Integer price) {
+                             LocalDateTime eventDateTime, Integer totalSeats, Integer price,
+                             LocalDateTime onSaleAt) {
         Event event = getEvent(eventId);
+        validateOnSaleAt(onSaleAt != null ? onSaleAt : event.getOnSaleAt(),
+                eventDateTime != null ? eventDateTime : event.getEventDateTime());
 
         // 기존 예약이 있는 상태에서 좌석 수를 줄이는 경우 검증
-        if (totalSeats != null && totalSeats < (event.getTotalSeats() - event.getAvailableSeats())) {
+        if (totalSeats != null && totalSeats < (event.getTotalSeats() - availableSeatCounter.getAvailableSeats(event))) {
             throw new BusinessException(ErrorCode.INVALID_SEAT_COUNT,
                     "예약된 좌석보다 적은 수로 변경할 수 없습니다.");
         }
 
-        event.updateEvent(title, description, venue, eventDateTime, totalSeats, price);
+        event.updateEvent(title, description, venue, eventDateTime, price, onSaleAt);
+        if (totalSeats != null && !totalSeats.equals(event.getTotalSeats())) {
+            // 읽어 둔 잔여석으로 덮어쓰지 않도록 DB 에서 상대 갱신 후 다시 조회 (CLOSED/CANCELLED 는 상태 유지)
+            eventRepository.resizeSeats(eventId, totalSeats, LocalDateTime.now());
+            event = getEvent(eventId);
+        }
+        eventCache.invalidate(eventId);
+        indexAfterCommit(event);
         return event;
     }
 
@@ -71,11 +187,46 @@ public class EventService {
         Event event = getEvent(eventId);
 
         // 예약이 있는 이벤트는 삭제 불가
-        if (event.getAvailableSeats() < event.getTotalSeats()) {
+        if (availableSeatCounter.getAvailableSeats(event) < event.getTotalSeats()) {
             throw new BusinessException(ErrorCode.EVENT_NOT_AVAILABLE,
                     "예약이 있는 이벤트는 삭제할 수 없습니다.");
         }
 
         eventRepository.delete(event);
+        eventCache.invalidate(eventId);
+        removeFromIndexAfterCommit(eventId);
+        eventPublisher.publishEvent(new EventDeletedEvent(eventId));
+    }
+
+    private void validateOnSaleAt(LocalDateTime onSaleAt, LocalDateTime eventDateTime) {
+        if (onSaleAt != null && !onSaleAt.isBefore(eventDateTime)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "예매 오픈 시각은 이벤트 일시보다 빨라야 합니다.");
+        }
+    }
+
+    // 커밋된 내용만 검색 색인에 반영 (롤백된 변경이 검색되지 않도록)
+    private void indexAfterCommit(Event event) {
+        Long eventId = event.getId();
+        String title = event.getTitle();
+        String venue = event.getVenue();
+        String description = event.getDescription();
+        LocalDateTime eventDateTime = event.getEventDateTime();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventSearchIndex.index(eventId, title, venue, description, eventDateTime);
+            }
+        });
+    }
+
+    private void removeFromIndexAfterCommit(Long eventId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventSearchIndex.remove(eventId);
+            }
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.concerthub.domain.event.service;
+
+import com.concerthub.domain.event.entity.Event;
+import com.concerthub.domain.event.entity.status.EventStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 불변 스냅샷 (EventCache 에 보관, 잔여석은 AvailableSeatCounter 에서 조회)
+ */
+public record EventSnapshot(
+        Long id,
+        String title,
+        String venue,
+        LocalDateTime eventDateTime,
+        Integer totalSeats,
+        Integer price,
+        EventStatus status,
+        LocalDateTime onSaleAt,
+        Long venueLayoutId
+) {
+
+    public static EventSnapshot from(Event event) {
+        return new EventSnapshot(
+                event.getId(),
+                event.getTitle(),
+                event.getVenue(),
+                event.getEventDateTime(),
+                event.getTotalSeats(),
+                event.getPrice(),
+                event.getStatus(),
+                event.getOnSaleAt(),
+                event.getVenueLayoutId()
+        );
+    }
+
+    public boolean isOpen() {
+        return status == EventStatus.OPEN;
+    }
+
+    /**
+     * 예매 오픈 시각이 지났는지 (오픈 시각이 없으면 항상 true)
+     */
+    public boolean isOnSale(LocalDateTime now) {
+        return onSaleAt == null || !now.isBefore(onSaleAt);
+    }
+}
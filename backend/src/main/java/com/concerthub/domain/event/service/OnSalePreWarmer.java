@@ -0,0 +1,196 @@
+package com.concerthub.domain.event.service;
+
+import com.concerthub.domain.event.entity.Event;
+import com.concerthub.domain.event.repository.EventRepository;
+import com.concerthub.domain.reservation.entity.Reservation;
+import com.concerthub.domain.reservation.entity.status.ReservationStatus;
+import com.concerthub.domain.reservation.repository.ReservationRepository;
+import com.concerthub.domain.seat.engine.EventSeatState;
+import com.concerthub.domain.seat.engine.HoldResult;
+import com.concerthub.domain.seat.engine.SeatStateEngine;
+import com.concerthub.domain.seat.entity.Seat;
+import com.concerthub.domain.seat.repository.SeatRepository;
+import com.concerthub.domain.seat.service.SeatService;
+import com.concerthub.domain.user.entity.User;
+import com.concerthub.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 예매 오픈 직전 사전 준비
+ * 오픈 몇 분 전에 이벤트 스냅샷 캐시, 좌석 상태(좌석 맵/상태별 카운터), 정적 배치와 압축 상태를 미리 만들고
+ * 예약 요청이 거치는 조회/선점/예약 저장 경로를 반복 실행해 JIT 컴파일까지 마쳐 둔다.
+ * 오픈 전에는 validateEventOnSale 이 실제 예약을 막으므로, 인메모리 선점은 바로 해제하고
+ * DB 경로(좌석 락 조회, 예약 INSERT)는 롤백 전용 트랜잭션에서 실행해 좌석 상태를 남기지 않는다.
+ * 스냅샷 캐시는 쓰기 후 TTL 이 지나면 만료되므로 오픈 전까지 확인 주기마다 다시 적재한다.
+ */
+@Slf4j
+@Component
+public class OnSalePreWarmer {
+
+    private static final List<ReservationStatus> ACTIVE_STATUSES =
+            List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+
+    private final EventRepository eventRepository;
+    private final EventService eventService;
+    private final EventCache eventCache;
+    private final SeatService seatService;
+    private final SeatStateEngine seatStateEngine;
+    private final SeatRepository seatRepository;
+    private final ReservationRepository reservationRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lead;
+    private final int iterations;
+    private final int dbIterations;
+
+    // 준비를 마친 이벤트 → 준비 당시 예매 오픈 시각 (오픈 시각이 바뀌면 다시 준비)
+    private final Map<Long, LocalDateTime> warmedEvents = new ConcurrentHashMap<>();
+
+    public OnSalePreWarmer(EventRepository eventRepository,
+                           EventService eventService,
+                           EventCache eventCache,
+                           SeatService seatService,
+                           SeatStateEngine seatStateEngine,
+                           SeatRepository seatRepository,
+                           ReservationRepository reservationRepository,
+                           UserRepository userRepository,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${event.on-sale.warmup-lead-minutes:5}") long leadMinutes,
+                           @Value("${event.on-sale.warmup-iterations:5000}") int iterations,
+                           @Value("${event.on-sale.warmup-db-iterations:200}") int dbIterations) {
+        this.eventRepository = eventRepository;
+        this.eventService = eventService;
+        this.eventCache = eventCache;
+        this.seatService = seatService;
+        this.seatStateEngine = seatStateEngine;
+        this.seatRepository = seatRepository;
+        this.reservationRepository = reservationRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.lead = Duration.ofMinutes(leadMinutes);
+        this.iterations = iterations;
+        this.dbIterations = dbIterations;
+    }
+
+    /**
+     * 예매 오픈이 lead 이내로 다가온 이벤트 준비 (준비된 이벤트 수 반환)
+     * 이미 준비한 이벤트는 스냅샷 캐시만 다시 적재해 오픈 시점까지 만료되지 않게 한다.
+     */
+    public int warmUpcoming() {
+        LocalDateTime now = LocalDateTime.now();
+        warmedEvents.values().removeIf(onSaleAt -> onSaleAt.isBefore(now));
+
+        List<Event> events = eventRepository.findByOnSaleAtBetween(now, now.plus(lead));
+        int warmed = 0;
+        for (Event event : events) {
+            if (event.getOnSaleAt().equals(warmedEvents.get(event.getId()))) {
+                primeSnapshot(event.getId());
+                continue;
+            }
+
+            try {
+                long startedAt = System.nanoTime();
+                warm(event.getId(), event.getOnSaleAt());
+                warmedEvents.put(event.getId(), event.getOnSaleAt());
+                warmed++;
+                log.info("예매 오픈 사전 준비 완료: 이벤트ID={}, 오픈={}, 소요={}ms",
+                        event.getId(), event.getOnSaleAt(), Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+            } catch (Exception e) {
+                log.error("예매 오픈 사전 준비 실패: 이벤트ID={}", event.getId(), e);
+            }
+        }
+        return warmed;
+    }
+
+    private void warm(Long eventId, LocalDateTime onSaleAt) {
+        // 1. 이벤트 스냅샷 캐시를 최신 값으로 적재
+        primeSnapshot(eventId);
+
+        // 2. 좌석 상태 적재 (좌석 맵 + 상태별 카운터) 및 정적 배치/압축 상태 생성
+        seatService.getSeatLayout(eventId);
+        seatService.getPackedSeatStatuses(eventId);
+        seatService.getSeatSummary(eventId);
+
+        // 3. DB 조회 경로 (쿼리 계획 캐시, 커넥션 풀)
+        seatService.getEventSeats(eventId);
+
+        // 4. 요청 경로 반복 실행 (JIT 컴파일)
+        EventSeatState state = seatStateEngine.getState(eventId);
+        for (int i = 0; i < iterations; i++) {
+            eventService.getEventSnapshot(eventId).isOnSale(LocalDateTime.now());
+            seatService.getSeatSummary(eventId);
+            seatService.getSeatMapVersion(eventId);
+            List<Long> bestSeats = seatStateEngine.findBestContiguousSeats(eventId, 2);
+            if (state != null && state.size() > 0) {
+                int ordinal = state.ordinalOf(state.seatIdAt(i % state.size()));
+                state.statusAt(ordinal);
+            }
+            if (LocalDateTime.now().isBefore(onSaleAt)) { // 오픈 이후에는 실제 요청과 선점을 다투지 않도록
+                holdAndRelease(eventId, bestSeats);
+            }
+        }
+
+        // 5. 예약 DB 경로 (좌석 비관적 락 조회, 활성 예약 확인, 예약 INSERT) 를 롤백 트랜잭션에서 반복
+        Optional<Long> seatId = seatStateEngine.findBestContiguousSeats(eventId, 1).stream().findFirst();
+        Optional<User> user = userRepository.findFirstByOrderByIdAsc();
+        if (seatId.isPresent() && user.isPresent()) {
+            for (int i = 0; i < dbIterations && LocalDateTime.now().isBefore(onSaleAt); i++) {
+                reserveAndRollback(eventId, seatId.get(), user.get().getId());
+            }
+        }
+        seatService.getPackedSeatStatuses(eventId);
+    }
+
+    private void primeSnapshot(Long eventId) {
+        eventCache.invalidate(eventId);
+        eventService.getEventSnapshot(eventId);
+    }
+
+    // 트랜잭션 밖이라 완료 콜백이 없으므로 직접 해제
+    private void holdAndRelease(Long eventId, List<Long> seatIds) {
+        if (!seatStateEngine.isEnabled()) {
+            return;
+        }
+        for (Long seatId : seatIds) {
+            if (seatStateEngine.holdWithinTransaction(eventId, seatId) == HoldResult.HELD) {
+                seatStateEngine.release(eventId, seatId);
+            }
+        }
+    }
+
+    // ReservationService.createReservation 의 선점 이후 단계와 같은 순서, 커밋하지 않음
+    private void reserveAndRollback(Long eventId, Long seatId, Long userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            if (seatStateEngine.isEnabled()
+                    && seatStateEngine.holdWithinTransaction(eventId, seatId) != HoldResult.HELD) {
+                return; // 롤백 시 선점은 엔진이 해제
+            }
+
+            Seat seat = seatRepository.findByIdWithLock(seatId).orElse(null);
+            if (seat == null || !seat.isAvailable()
+                    || reservationRepository.findActiveBySeatId(seatId, ACTIVE_STATUSES).isPresent()) {
+                return;
+            }
+
+            seat.temporaryReserve();
+            reservationRepository.save(Reservation.builder()
+                    .event(eventService.getEventReference(eventId))
+                    .seat(seat)
+                    .user(userRepository.getReferenceById(userId))
+                    .totalPrice(seat.getPrice())
+                    .build());
+            reservationRepository.flush();
+        });
+    }
+}
@@ -3,6 +3,7 @@ package com.concerthub.domain.payment.controller;
 import com.concerthub.domain.payment.service.PaymentService;
 import com.concerthub.domain.reservation.entity.Reservation;
 import com.concerthub.domain.reservation.service.ReservationService;
+import com.concerthub.global.datasource.ReadConsistency;
 import com.concerthub.global.exception.BusinessException;
 import com.concerthub.global.exception.ErrorCode;
 import com.concerthub.global.response.ApiResponse;
@@ -13,6 +14,7 @@ import java.util.Map;
 
 @RestController
 @RequestMapping("/api/payments")
+@ReadConsistency(ReadConsistency.Level.STRONG)
 @RequiredArgsConstructor
 public class PaymentController {
 
@@ -0,0 +1,32 @@
+package com.concerthub.domain.payment.dto.response;
+
+import com.concerthub.domain.payment.service.PaymentConfirmation;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class PaymentConfirmationResponse {
+
+    private String confirmationId;
+    private Long reservationId;
+    private PaymentConfirmation.Status status;
+    private String paymentId;
+    private String message;
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+
+    public static PaymentConfirmationResponse from(PaymentConfirmation confirmation) {
+        return PaymentConfirmationResponse.builder()
+                .confirmationId(confirmation.getConfirmationId())
+                .reservationId(confirmation.getReservationId())
+                .status(confirmation.getStatus())
+                .paymentId(confirmation.getPaymentId())
+                .message(confirmation.getMessage())
+                .requestedAt(confirmation.getRequestedAt())
+                .completedAt(confirmation.getCompletedAt())
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.concerthub.domain.payment.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 확정 실패 후 결제 취소에 실패한 건 (수동 대사 대상)
+ */
+@Entity
+@Table(name = "payment_refund_failures",
+        indexes = {
+                @Index(name = "idx_payment_refund_failures_resolved_at", columnList = "resolved_at, created_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class PaymentRefundFailure {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long reservationId;
+
+    @Column(nullable = false, length = 100)
+    private String paymentId;
+
+    @Column(length = 500)
+    private String reason;
+
+    private LocalDateTime resolvedAt; // 수동 환불 처리 완료 시각 (미처리 건은 NULL)
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public PaymentRefundFailure(Long reservationId, String paymentId, String reason) {
+        this.reservationId = reservationId;
+        this.paymentId = paymentId;
+        this.reason = reason;
+    }
+
+    public void resolve() {
+        this.resolvedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,14 @@
+package com.concerthub.domain.payment.repository;
+
+import com.concerthub.domain.payment.entity.PaymentRefundFailure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PaymentRefundFailureRepository extends JpaRepository<PaymentRefundFailure, Long> {
+
+    // 미처리 건 (오래된 순)
+    List<PaymentRefundFailure> findByResolvedAtIsNullOrderByCreatedAtAsc();
+}
@@ -0,0 +1,74 @@
+package com.concerthub.domain.payment.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 비동기 결제 확정 요청 핸들 (메모리 보관)
+ */
+@Getter
+public class PaymentConfirmation {
+
+    public enum Status {
+        PROCESSING,  // 결제 진행 중
+        CONFIRMED,   // 결제 완료 및 예약 확정
+        FAILED       // 결제 또는 예약 확정 실패
+    }
+
+    private final String confirmationId;
+    private final Long reservationId;
+    private final LocalDateTime requestedAt;
+    private volatile Status status;
+    private volatile String paymentId;
+    private volatile String message;
+    private volatile LocalDateTime completedAt;
+    private volatile boolean refundFailed; // 결제 취소 실패 (수동 대사 필요)
+
+    private final AtomicBoolean submitted = new AtomicBoolean(false);
+
+    public PaymentConfirmation(Long reservationId) {
+        this.confirmationId = UUID.randomUUID().toString();
+        this.reservationId = reservationId;
+        this.requestedAt = LocalDateTime.now();
+        this.status = Status.PROCESSING;
+    }
+
+    /**
+     * 최초 1회만 결제 작업을 제출하도록 보장
+     */
+    public boolean markSubmitted() {
+        return submitted.compareAndSet(false, true);
+    }
+
+    public void complete(String paymentId) {
+        this.paymentId = paymentId;
+        this.message = "결제가 완료되어 예약이 확정되었습니다.";
+        this.completedAt = LocalDateTime.now();
+        this.status = Status.CONFIRMED;
+    }
+
+    public void fail(String message) {
+        this.message = message;
+        this.completedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    /**
+     * 예약 확정 실패 후 결제 취소까지 실패한 건 (결제ID 를 남겨 수동으로 환불)
+     */
+    public void markRefundFailed(String paymentId) {
+        this.paymentId = paymentId;
+        this.refundFailed = true;
+    }
+
+    public boolean isFailed() {
+        return this.status == Status.FAILED;
+    }
+
+    public boolean isCompletedBefore(LocalDateTime time) {
+        return this.completedAt != null && this.completedAt.isBefore(time);
+    }
+}
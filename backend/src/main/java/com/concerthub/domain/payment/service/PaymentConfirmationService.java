@@ -0,0 +1,179 @@
+package com.concerthub.domain.payment.service;
+
+import com.concerthub.domain.payment.entity.PaymentRefundFailure;
+import com.concerthub.domain.payment.repository.PaymentRefundFailureRepository;
+import com.concerthub.domain.reservation.entity.Reservation;
+import com.concerthub.domain.reservation.service.ReservationService;
+import com.concerthub.global.exception.BusinessException;
+import com.concerthub.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 비동기 결제 확정
+ * 요청 스레드는 핸들만 발급하고 반환하며, 결제와 예약 확정은 결제 전용 스레드 풀에서 처리한다.
+ */
+@Slf4j
+@Service
+public class PaymentConfirmationService {
+
+    private static final long RETENTION_MINUTES = 10;
+
+    private final PaymentService paymentService;
+    private final ReservationService reservationService;
+    private final Executor paymentExecutor;
+    private final PaymentRefundFailureRepository refundFailureRepository;
+
+    private final Counter refundFailures;
+
+    private final Map<Long, PaymentConfirmation> confirmations = new ConcurrentHashMap<>();
+
+    public PaymentConfirmationService(PaymentService paymentService,
+                                      ReservationService reservationService,
+                                      @Qualifier("paymentExecutor") Executor paymentExecutor,
+                                      PaymentRefundFailureRepository refundFailureRepository,
+                                      MeterRegistry meterRegistry) {
+        this.paymentService = paymentService;
+        this.reservationService = reservationService;
+        this.paymentExecutor = paymentExecutor;
+        this.refundFailureRepository = refundFailureRepository;
+        this.refundFailures = Counter.builder("payment.refund.failed")
+                .description("예약 확정 실패 후 결제 취소에 실패한 건수 (수동 대사 대상)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 결제 확정 요청 접수 (본인 예약만, 같은 예약의 중복 요청은 기존 핸들 반환)
+     */
+    public PaymentConfirmation requestConfirmation(Long reservationId, Long userId) {
+        Reservation reservation = reservationService.getReservationOwnedBy(reservationId, userId);
+        if (!reservation.isPending()) {
+            throw new BusinessException(ErrorCode.RESERVATION_NOT_PENDING);
+        }
+
+        Integer amount = reservation.getTotalPrice();
+        String userEmail = reservation.getUser().getEmail();
+
+        PaymentConfirmation confirmation = confirmations.compute(reservationId, (id, current) ->
+                current == null || current.isFailed() ? new PaymentConfirmation(id) : current);
+
+        if (!confirmation.markSubmitted()) {
+            return confirmation;
+        }
+
+        try {
+            paymentExecutor.execute(() -> process(confirmation, amount, userEmail));
+        } catch (RejectedExecutionException e) {
+            confirmations.remove(reservationId, confirmation);
+            throw new BusinessException(ErrorCode.PAYMENT_QUEUE_FULL);
+        }
+
+        log.info("비동기 결제 확정 접수: 예약ID={}, 확정ID={}", reservationId, confirmation.getConfirmationId());
+        return confirmation;
+    }
+
+    public PaymentConfirmation getConfirmation(Long reservationId, Long userId) {
+        reservationService.getReservationOwnedBy(reservationId, userId);
+
+        PaymentConfirmation confirmation = confirmations.get(reservationId);
+        if (confirmation == null) {
+            throw new BusinessException(ErrorCode.PAYMENT_CONFIRMATION_NOT_FOUND);
+        }
+        return confirmation;
+    }
+
+    /**
+     * 완료 후 보관 기간이 지난 핸들 정리
+     */
+    public void evictCompletedConfirmations() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(RETENTION_MINUTES);
+        confirmations.values().removeIf(confirmation ->
+                confirmation.isCompletedBefore(threshold) && !confirmation.isRefundFailed());
+    }
+
+    private void process(PaymentConfirmation confirmation, Integer amount, String userEmail) {
+        Long reservationId = confirmation.getReservationId();
+        PaymentService.PaymentResult paymentResult = null;
+
+        try {
+            paymentResult = paymentService.processPayment(reservationId, amount, userEmail);
+            if (!paymentResult.isSuccess()) {
+                confirmation.fail(paymentResult.getErrorMessage());
+                return;
+            }
+
+            reservationService.confirmReservation(reservationId, paymentResult.getPaymentId());
+            confirmation.complete(paymentResult.getPaymentId());
+        } catch (Exception e) {
+            if (e instanceof BusinessException) {
+                log.warn("결제 후 예약 확정 실패: 예약ID={}, 사유={}", reservationId, e.getMessage());
+            } else {
+                log.error("비동기 결제 확정 중 오류 발생: 예약ID={}", reservationId, e);
+            }
+
+            if (paymentResult != null && paymentResult.isSuccess()) {
+                String paymentId = paymentResult.getPaymentId();
+                // 확정 트랜잭션이 커밋된 뒤 예외가 난 경우에는 이미 확정된 예약이므로 취소하지 않는다
+                if (isConfirmedWith(reservationId, paymentId)) {
+                    confirmation.complete(paymentId);
+                    return;
+                }
+                // 결제는 승인됐지만 예약 확정을 마치지 못했으면 예외 종류와 관계없이 결제 취소 (보상 처리)
+                refund(confirmation, paymentId, e.getMessage());
+            }
+
+            String message = e instanceof BusinessException ? e.getMessage() : ErrorCode.PAYMENT_FAILED.getMessage();
+            confirmation.fail(message);
+        }
+    }
+
+    private boolean isConfirmedWith(Long reservationId, String paymentId) {
+        try {
+            Reservation reservation = reservationService.getReservationById(reservationId);
+            return reservation.isConfirmed() && paymentId.equals(reservation.getPaymentId());
+        } catch (Exception e) {
+            log.error("예약 확정 여부 확인 실패: 예약ID={}", reservationId, e);
+            return false;
+        }
+    }
+
+    // 결제 취소 실패는 수동 대사 대상으로 저장하고 카운터로 집계 (메모리 핸들은 재기동 시 사라지므로 테이블이 원본)
+    private void refund(PaymentConfirmation confirmation, String paymentId, String reason) {
+        boolean refunded;
+        try {
+            refunded = paymentService.cancelPayment(paymentId);
+        } catch (Exception e) {
+            log.error("결제 취소 중 오류 발생: 예약ID={}, 결제ID={}", confirmation.getReservationId(), paymentId, e);
+            refunded = false;
+        }
+
+        if (!refunded) {
+            log.error("[수동 대사 필요] 결제 취소 실패: 예약ID={}, 결제ID={}", confirmation.getReservationId(), paymentId);
+            confirmation.markRefundFailed(paymentId);
+            refundFailures.increment();
+            recordRefundFailure(confirmation.getReservationId(), paymentId, reason);
+        }
+    }
+
+    private void recordRefundFailure(Long reservationId, String paymentId, String reason) {
+        try {
+            refundFailureRepository.save(PaymentRefundFailure.builder()
+                    .reservationId(reservationId)
+                    .paymentId(paymentId)
+                    .reason(reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason)
+                    .build());
+        } catch (Exception e) {
+            // 저장까지 실패하면 이 로그가 유일한 기록이다
+            log.error("[수동 대사 필요] 결제 취소 실패 기록 저장 실패: 예약ID={}, 결제ID={}", reservationId, paymentId, e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.concerthub.domain.queue.controller;
+
+import com.concerthub.domain.queue.dto.response.QueueTicketResponse;
+import com.concerthub.domain.queue.service.WaitingRoomService;
+import com.concerthub.global.jwt.userdetails.CustomUserDetails;
+import com.concerthub.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/events/{eventId}/queue")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<QueueTicketResponse> enter(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        QueueTicketResponse ticket = waitingRoomService.enter(eventId, userDetails.getId());
+        return ApiResponse.success(ticket, "대기열에 등록되었습니다.");
+    }
+
+    /**
+     * 대기 순번 조회 (입장 차례가 되면 admissionToken 이 함께 내려감)
+     */
+    @GetMapping
+    public ApiResponse<QueueTicketResponse> getTicket(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ApiResponse.success(waitingRoomService.getTicket(eventId, userDetails.getId()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.concerthub.domain.queue.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class QueueTicketResponse {
+
+    private Long eventId;
+    private Long sequence;              // 대기 순번 (도착 순)
+    private Long position;              // 내 앞 대기 인원 + 1 (입장 시 0)
+    private Long estimatedWaitSeconds;  // 입장 속도 기준 예상 대기 시간
+    private boolean admitted;
+    private String admissionToken;      // 입장 허용 시에만 발급
+}
@@ -0,0 +1,63 @@
+package com.concerthub.domain.queue.interceptor;
+
+import com.concerthub.domain.queue.service.WaitingRoomService;
+import com.concerthub.domain.user.entity.enums.UserRole;
+import com.concerthub.global.exception.BusinessException;
+import com.concerthub.global.exception.ErrorCode;
+import com.concerthub.global.jwt.userdetails.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 좌석 API 입장 토큰 검사
+ * 경로의 이벤트 ID 와 인증 사용자 기준으로 대기실 입장 토큰을 확인한다. (관리자는 제외)
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    public static final String ADMISSION_TOKEN_HEADER = "X-Admission-Token";
+
+    private final WaitingRoomService waitingRoomService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!waitingRoomService.isEnabled()) {
+            return true;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            throw new BusinessException(ErrorCode.ADMISSION_REQUIRED);
+        }
+
+        if (userDetails.getRole() == UserRole.ADMIN) {
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pathVariables == null || pathVariables.get("eventId") == null) {
+            return true;
+        }
+
+        Long eventId;
+        try {
+            eventId = Long.valueOf(pathVariables.get("eventId"));
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_TYPE_VALUE);
+        }
+
+        waitingRoomService.verifyAdmission(request.getHeader(ADMISSION_TOKEN_HEADER), eventId, userDetails.getId());
+        return true;
+    }
+}
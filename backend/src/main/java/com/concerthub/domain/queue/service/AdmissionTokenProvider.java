@@ -0,0 +1,71 @@
+package com.concerthub.domain.queue.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * 대기열 입장 토큰 발급/검증
+ * 이벤트 ID 와 사용자 ID 가 서명된 토큰이라 입장 여부 확인에 저장소 조회가 필요 없다.
+ */
+@Component
+public class AdmissionTokenProvider {
+
+    private static final String SCOPE = "admission";
+
+    private final SecretKey secretKey;
+    private final long tokenTtlSeconds;
+
+    public AdmissionTokenProvider(
+            @Value("${jwt.secret}") String secret,
+            @Value("${waiting-room.token-ttl-seconds:600}") long tokenTtlSeconds) {
+        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
+                Jwts.SIG.HS256.key().build().getAlgorithm());
+        this.tokenTtlSeconds = tokenTtlSeconds;
+    }
+
+    public long getTokenTtlSeconds() {
+        return tokenTtlSeconds;
+    }
+
+    /**
+     * 입장 토큰 발급 (같은 입장에 다시 발급해도 처음 정한 만료 시각을 유지)
+     */
+    public String createToken(Long eventId, Long userId, Instant expiresAt) {
+        return Jwts.builder()
+                .subject(userId.toString())
+                .claim("scope", SCOPE)
+                .claim("eventId", eventId)
+                .issuedAt(Date.from(Instant.now()))
+                .expiration(Date.from(expiresAt))
+                .signWith(secretKey)
+                .compact();
+    }
+
+    /**
+     * 해당 이벤트/사용자에게 발급된 유효한 입장 토큰인지 확인
+     */
+    public boolean isValid(String token, Long eventId, Long userId) {
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+
+            return SCOPE.equals(claims.get("scope", String.class))
+                    && eventId.equals(claims.get("eventId", Long.class))
+                    && userId.toString().equals(claims.getSubject());
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.concerthub.domain.queue.service;
+
+import com.concerthub.domain.event.service.EventService;
+import com.concerthub.domain.queue.dto.response.QueueTicketResponse;
+import com.concerthub.domain.queue.store.WaitingRoomStore;
+import com.concerthub.global.exception.BusinessException;
+import com.concerthub.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트별 가상 대기실
+ * 도착 순으로 순번을 발급하고 초당 일정 인원만 입장시켜 좌석/예약 API 로 들어오는 부하를 일정하게 유지한다.
+ */
+@Slf4j
+@Service
+public class WaitingRoomService {
+
+    private final WaitingRoomStore waitingRoomStore;
+    private final AdmissionTokenProvider admissionTokenProvider;
+    private final EventService eventService;
+    private final boolean enabled;
+    private final int admitsPerSecond;
+
+    public WaitingRoomService(WaitingRoomStore waitingRoomStore,
+                              AdmissionTokenProvider admissionTokenProvider,
+                              EventService eventService,
+                              @Value("${waiting-room.enabled:false}") boolean enabled,
+                              @Value("${waiting-room.admits-per-second:100}") int admitsPerSecond) {
+        this.waitingRoomStore = waitingRoomStore;
+        this.admissionTokenProvider = admissionTokenProvider;
+        this.eventService = eventService;
+        this.enabled = enabled;
+        this.admitsPerSecond = admitsPerSecond;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 대기열 등록 (이미 등록된 사용자는 기존 순번 유지)
+     */
+    public QueueTicketResponse enter(Long eventId, Long userId) {
+        if (!eventService.getEventSnapshot(eventId).isOpen()) {
+            throw new BusinessException(ErrorCode.EVENT_NOT_AVAILABLE);
+        }
+
+        // 입장 시간을 다 쓴 사용자는 맨 뒤로 다시 등록
+        Instant admissionExpiry = waitingRoomStore.findAdmissionExpiry(eventId, userId);
+        if (admissionExpiry != null && !admissionExpiry.isAfter(Instant.now())) {
+            waitingRoomStore.remove(eventId, userId);
+        }
+
+        long sequence = waitingRoomStore.enqueue(eventId, userId);
+        return toTicket(eventId, userId, sequence);
+    }
+
+    /**
+     * 대기 상태 조회 (입장 차례가 되면 입장 토큰 발급)
+     */
+    public QueueTicketResponse getTicket(Long eventId, Long userId) {
+        Long sequence = waitingRoomStore.findSequence(eventId, userId);
+        if (sequence == null) {
+            throw new BusinessException(ErrorCode.QUEUE_TICKET_NOT_FOUND);
+        }
+        return toTicket(eventId, userId, sequence);
+    }
+
+    /**
+     * 대기 중인 모든 이벤트에 초당 입장 인원만큼 입장 허용 (예매 오픈 전에는 순번만 발급하고 입장시키지 않음)
+     */
+    public void admitWaitingUsers() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long eventId : waitingRoomStore.findWaitingEventIds()) {
+            if (!isOnSale(eventId, now)) {
+                continue;
+            }
+
+            long admitted = waitingRoomStore.admit(eventId, admitsPerSecond);
+            log.debug("대기열 입장 허용: 이벤트ID={}, 입장 커서={}", eventId, admitted);
+        }
+    }
+
+    /**
+     * 닫힌(삭제 포함) 이벤트의 대기열과, 모두 입장한 뒤 토큰 유효 시간 동안 활동이 없는 대기열 삭제 (삭제한 수 반환)
+     */
+    public int clearFinishedQueues() {
+        Instant idleSince = Instant.now().minusSeconds(admissionTokenProvider.getTokenTtlSeconds());
+        int cleared = 0;
+        for (Long eventId : waitingRoomStore.findEventIds()) {
+            if (!isOpen(eventId) || waitingRoomStore.isDrainedSince(eventId, idleSince)) {
+                waitingRoomStore.clear(eventId);
+                cleared++;
+            }
+        }
+        return cleared;
+    }
+
+    /**
+     * 입장 토큰 검증 (대기실 비활성화 시 통과)
+     */
+    public void verifyAdmission(String admissionToken, Long eventId, Long userId) {
+        if (!enabled) {
+            return;
+        }
+
+        if (admissionToken == null || admissionToken.isBlank()) {
+            throw new BusinessException(ErrorCode.ADMISSION_REQUIRED);
+        }
+
+        if (!admissionTokenProvider.isValid(admissionToken, eventId, userId)) {
+            throw new BusinessException(ErrorCode.INVALID_ADMISSION_TOKEN);
+        }
+    }
+
+    private boolean isOnSale(Long eventId, LocalDateTime now) {
+        try {
+            return eventService.getEventSnapshot(eventId).isOnSale(now);
+        } catch (BusinessException e) {
+            return false; // 삭제된 이벤트
+        }
+    }
+
+    private boolean isOpen(Long eventId) {
+        try {
+            return eventService.getEventSnapshot(eventId).isOpen();
+        } catch (BusinessException e) {
+            return false; // 삭제된 이벤트
+        }
+    }
+
+    private QueueTicketResponse toTicket(Long eventId, Long userId, long sequence) {
+        long admittedSequence = waitingRoomStore.getAdmittedSequence(eventId);
+        boolean admitted = sequence <= admittedSequence;
+        long position = admitted ? 0 : sequence - admittedSequence;
+
+        return QueueTicketResponse.builder()
+                .eventId(eventId)
+                .sequence(sequence)
+                .position(position)
+                .estimatedWaitSeconds((position + admitsPerSecond - 1) / admitsPerSecond)
+                .admitted(admitted)
+                .admissionToken(admitted ? issueAdmissionToken(eventId, userId) : null)
+                .build();
+    }
+
+    // 한 번 입장하면 토큰 유효 시간 한 번만 허용 (다시 조회해도 같은 만료 시각, 만료되면 대기열에서 제외)
+    private String issueAdmissionToken(Long eventId, Long userId) {
+        Instant now = Instant.now();
+        Instant expiresAt = waitingRoomStore.issueAdmission(eventId, userId,
+                now.plusSeconds(admissionTokenProvider.getTokenTtlSeconds()));
+        if (!expiresAt.isAfter(now)) {
+            waitingRoomStore.remove(eventId, userId);
+            throw new BusinessException(ErrorCode.ADMISSION_EXPIRED);
+        }
+        return admissionTokenProvider.createToken(eventId, userId, expiresAt);
+    }
+}
@@ -0,0 +1,108 @@
+package com.concerthub.domain.queue.store;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * JVM 메모리 대기열 저장소 (단일 인스턴스용)
+ */
+@Component
+public class InMemoryWaitingRoomStore implements WaitingRoomStore {
+
+    private final Map<Long, EventQueue> queues = new ConcurrentHashMap<>();
+
+    @Override
+    public long enqueue(Long eventId, Long userId) {
+        EventQueue queue = queues.computeIfAbsent(eventId, id -> new EventQueue());
+        queue.touch();
+        return queue.sequences.computeIfAbsent(userId, id -> queue.tail.incrementAndGet());
+    }
+
+    @Override
+    public Long findSequence(Long eventId, Long userId) {
+        EventQueue queue = queues.get(eventId);
+        return queue == null ? null : queue.sequences.get(userId);
+    }
+
+    @Override
+    public long getAdmittedSequence(Long eventId) {
+        EventQueue queue = queues.get(eventId);
+        return queue == null ? 0 : queue.admitted.get();
+    }
+
+    @Override
+    public long admit(Long eventId, int count) {
+        EventQueue queue = queues.get(eventId);
+        if (queue == null) {
+            return 0;
+        }
+        queue.touch();
+        return queue.admitted.updateAndGet(current -> Math.min(queue.tail.get(), current + count));
+    }
+
+    @Override
+    public Instant issueAdmission(Long eventId, Long userId, Instant expiresAt) {
+        EventQueue queue = queues.computeIfAbsent(eventId, id -> new EventQueue());
+        queue.touch();
+        return queue.admissionExpiries.computeIfAbsent(userId, id -> expiresAt);
+    }
+
+    @Override
+    public Instant findAdmissionExpiry(Long eventId, Long userId) {
+        EventQueue queue = queues.get(eventId);
+        return queue == null ? null : queue.admissionExpiries.get(userId);
+    }
+
+    @Override
+    public void remove(Long eventId, Long userId) {
+        EventQueue queue = queues.get(eventId);
+        if (queue != null) {
+            queue.sequences.remove(userId);
+            queue.admissionExpiries.remove(userId);
+        }
+    }
+
+    @Override
+    public Set<Long> findEventIds() {
+        return Set.copyOf(queues.keySet());
+    }
+
+    @Override
+    public boolean isDrainedSince(Long eventId, Instant since) {
+        EventQueue queue = queues.get(eventId);
+        return queue != null
+                && queue.admitted.get() >= queue.tail.get()
+                && queue.lastActivity.isBefore(since);
+    }
+
+    @Override
+    public Set<Long> findWaitingEventIds() {
+        return queues.entrySet().stream()
+                .filter(entry -> entry.getValue().admitted.get() < entry.getValue().tail.get())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void clear(Long eventId) {
+        queues.remove(eventId);
+    }
+
+    private static class EventQueue {
+        private final Map<Long, Long> sequences = new ConcurrentHashMap<>(); // 사용자 ID → 순번
+        private final AtomicLong tail = new AtomicLong();                    // 마지막 발급 순번
+        private final AtomicLong admitted = new AtomicLong();                // 입장 허용된 마지막 순번
+        private final Map<Long, Instant> admissionExpiries = new ConcurrentHashMap<>(); // 사용자 ID → 입장 토큰 만료 시각
+        private volatile Instant lastActivity = Instant.now();
+
+        private void touch() {
+            lastActivity = Instant.now();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.concerthub.domain.queue.store;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * 이벤트별 대기열 저장소
+ * 도착 순서대로 순번을 부여하고, 입장 커서(입장 허용된 마지막 순번)를 관리한다.
+ * 다중 인스턴스 환경에서는 외부 저장소 구현으로 교체한다.
+ */
+public interface WaitingRoomStore {
+
+    /**
+     * 대기열 등록 (이미 등록된 사용자는 기존 순번 반환)
+     */
+    long enqueue(Long eventId, Long userId);
+
+    /**
+     * 사용자의 대기 순번 (미등록이면 null)
+     */
+    Long findSequence(Long eventId, Long userId);
+
+    /**
+     * 입장 허용된 마지막 순번
+     */
+    long getAdmittedSequence(Long eventId);
+
+    /**
+     * 최대 count 명 입장 허용 후 새 입장 커서 반환 (마지막 대기 순번을 넘지 않음)
+     */
+    long admit(Long eventId, int count);
+
+    /**
+     * 아직 입장하지 못한 대기자가 있는 이벤트 목록
+     */
+    Set<Long> findWaitingEventIds();
+
+    /**
+     * 입장 토큰 만료 시각 기록 (이미 기록돼 있으면 기존 만료 시각 반환)
+     */
+    Instant issueAdmission(Long eventId, Long userId, Instant expiresAt);
+
+    /**
+     * 입장 토큰 만료 시각 (아직 발급 전이면 null)
+     */
+    Instant findAdmissionExpiry(Long eventId, Long userId);
+
+    /**
+     * 대기열에서 사용자 제거 (다시 등록하면 맨 뒤 순번)
+     */
+    void remove(Long eventId, Long userId);
+
+    /**
+     * 대기열이 있는 이벤트 목록
+     */
+    Set<Long> findEventIds();
+
+    /**
+     * 모두 입장했고 since 이후 등록/입장/토큰 발급이 없는 대기열인지
+     */
+    boolean isDrainedSince(Long eventId, Instant since);
+
+    /**
+     * 이벤트 대기열 삭제
+     */
+    void clear(Long eventId);
+}
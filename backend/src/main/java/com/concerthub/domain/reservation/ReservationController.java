@@ -1,17 +1,30 @@
 package com.concerthub.domain.reservation;
 
+import com.concerthub.domain.event.service.EventService;
+import com.concerthub.domain.payment.dto.response.PaymentConfirmationResponse;
+import com.concerthub.domain.payment.service.PaymentConfirmation;
+import com.concerthub.domain.payment.service.PaymentConfirmationService;
 import com.concerthub.domain.payment.service.PaymentService;
+import com.concerthub.domain.queue.interceptor.AdmissionInterceptor;
+import com.concerthub.domain.queue.service.WaitingRoomService;
+import com.concerthub.domain.reservation.dto.request.BestAvailableReservationRequest;
+import com.concerthub.domain.reservation.dto.request.ReservationBatchCreateRequest;
 import com.concerthub.domain.reservation.dto.request.ReservationConfirmRequest;
 import com.concerthub.domain.reservation.dto.request.ReservationCreateRequest;
 import com.concerthub.domain.reservation.dto.response.ReservationResponse;
 import com.concerthub.domain.reservation.entity.Reservation;
+import com.concerthub.domain.reservation.repository.ReservationView;
 import com.concerthub.domain.reservation.service.ReservationService;
+import com.concerthub.domain.reservation.service.SeatAllocationService;
+import com.concerthub.global.datasource.ReadConsistency;
 import com.concerthub.global.exception.BusinessException;
 import com.concerthub.global.exception.ErrorCode;
+import com.concerthub.global.jwt.userdetails.CustomUserDetails;
 import com.concerthub.global.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,25 +32,80 @@ import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/reservations")
+@ReadConsistency(ReadConsistency.Level.STRONG)
 @RequiredArgsConstructor
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final SeatAllocationService seatAllocationService;
     private final PaymentService paymentService;
+    private final PaymentConfirmationService paymentConfirmationService;
+    private final WaitingRoomService waitingRoomService;
+    private final EventService eventService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ApiResponse<ReservationResponse> createReservation(@Valid @RequestBody ReservationCreateRequest request) {
+    public ApiResponse<ReservationResponse> createReservation(
+            @Valid @RequestBody ReservationCreateRequest request,
+            @RequestHeader(value = AdmissionInterceptor.ADMISSION_TOKEN_HEADER, required = false) String admissionToken) {
+        waitingRoomService.verifyAdmission(admissionToken, request.getEventId(), request.getUserId());
+
         Reservation reservation = reservationService.createReservation(
                 request.getEventId(),
                 request.getSeatId(),
                 request.getUserId()
         );
 
-        return ApiResponse.success(ReservationResponse.from(reservation),
+        return ApiResponse.success(
+                ReservationResponse.from(reservation, eventService.getEventSnapshot(request.getEventId())),
                 "예약이 생성되었습니다. 15분 이내에 결제를 완료해주세요.");
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<List<ReservationResponse>> createReservations(
+            @Valid @RequestBody ReservationBatchCreateRequest request,
+            @RequestHeader(value = AdmissionInterceptor.ADMISSION_TOKEN_HEADER, required = false) String admissionToken) {
+        waitingRoomService.verifyAdmission(admissionToken, request.getEventId(), request.getUserId());
+
+        List<Reservation> reservations = reservationService.createReservations(
+                request.getEventId(),
+                request.getSeatIds(),
+                request.getUserId()
+        );
+
+        List<ReservationResponse> responses = reservations.stream()
+                .map(ReservationResponse::from)
+                .collect(Collectors.toList());
+
+        return ApiResponse.success(responses,
+                String.format("%d개 좌석의 예약이 생성되었습니다. 15분 이내에 결제를 완료해주세요.", responses.size()));
+    }
+
+    /**
+     * 최적 연속 좌석 자동 배정 후 일괄 임시 예약
+     */
+    @PostMapping("/best-available")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<List<ReservationResponse>> reserveBestAvailable(
+            @Valid @RequestBody BestAvailableReservationRequest request,
+            @RequestHeader(value = AdmissionInterceptor.ADMISSION_TOKEN_HEADER, required = false) String admissionToken) {
+        waitingRoomService.verifyAdmission(admissionToken, request.getEventId(), request.getUserId());
+
+        List<Reservation> reservations = seatAllocationService.reserveBestAvailable(
+                request.getEventId(),
+                request.getQuantity(),
+                request.getUserId()
+        );
+
+        List<ReservationResponse> responses = reservations.stream()
+                .map(ReservationResponse::from)
+                .collect(Collectors.toList());
+
+        return ApiResponse.success(responses,
+                String.format("연속 좌석 %d개가 배정되었습니다. 15분 이내에 결제를 완료해주세요.", responses.size()));
+    }
+
     @GetMapping("/{id}")
     public ApiResponse<ReservationResponse> getReservation(@PathVariable Long id) {
         Reservation reservation = reservationService.getReservationById(id);
@@ -46,7 +114,7 @@ public class ReservationController {
 
     @GetMapping("/user/{userId}")
     public ApiResponse<List<ReservationResponse>> getUserReservations(@PathVariable Long userId) {
-        List<Reservation> reservations = reservationService.getUserReservations(userId);
+        List<ReservationView> reservations = reservationService.getUserReservations(userId);
         List<ReservationResponse> responses = reservations.stream()
                 .map(ReservationResponse::from)
                 .collect(Collectors.toList());
@@ -57,10 +125,11 @@ public class ReservationController {
     @PostMapping("/{id}/confirm")
     public ApiResponse<ReservationResponse> confirmReservation(
             @PathVariable Long id,
-            @Valid @RequestBody ReservationConfirmRequest request) {
+            @Valid @RequestBody ReservationConfirmRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        // 예약 정보 조회
-        Reservation reservation = reservationService.getReservationById(id);
+        // 예약 정보 조회 (본인 예약만 결제)
+        Reservation reservation = reservationService.getReservationOwnedBy(id, userDetails.getId());
 
         // 결제 처리 (모킹)
         PaymentService.PaymentResult paymentResult = paymentService.processPayment(
@@ -80,6 +149,30 @@ public class ReservationController {
                 "결제가 완료되어 예약이 확정되었습니다.");
     }
 
+    /**
+     * 비동기 결제 확정 (202 응답 후 결제 전용 스레드에서 처리)
+     */
+    @PostMapping("/{id}/confirm/async")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<PaymentConfirmationResponse> confirmReservationAsync(
+            @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        PaymentConfirmation confirmation = paymentConfirmationService.requestConfirmation(id, userDetails.getId());
+        return ApiResponse.success(PaymentConfirmationResponse.from(confirmation),
+                "결제 요청이 접수되었습니다. 처리 결과를 조회해주세요.");
+    }
+
+    /**
+     * 비동기 결제 확정 처리 결과 조회
+     */
+    @GetMapping("/{id}/confirmation")
+    public ApiResponse<PaymentConfirmationResponse> getConfirmation(
+            @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        PaymentConfirmation confirmation = paymentConfirmationService.getConfirmation(id, userDetails.getId());
+        return ApiResponse.success(PaymentConfirmationResponse.from(confirmation));
+    }
+
     @DeleteMapping("/{id}/cancel")
     public ApiResponse<ReservationResponse> cancelReservation(@PathVariable Long id) {
         Reservation reservation = reservationService.getReservationById(id);
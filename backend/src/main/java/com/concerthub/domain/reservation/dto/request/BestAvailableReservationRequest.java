@@ -0,0 +1,23 @@
+package com.concerthub.domain.reservation.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class BestAvailableReservationRequest {
+
+    @NotNull(message = "이벤트 ID는 필수입니다.")
+    private Long eventId;
+
+    @NotNull(message = "좌석 수는 필수입니다.")
+    @Min(value = 1, message = "좌석 수는 1 이상이어야 합니다.")
+    @Max(value = 8, message = "한 번에 최대 8개 좌석까지 예약할 수 있습니다.")
+    private Integer quantity;
+
+    @NotNull(message = "사용자 ID는 필수입니다.")
+    private Long userId;
+}
@@ -0,0 +1,24 @@
+package com.concerthub.domain.reservation.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ReservationBatchCreateRequest {
+
+    @NotNull(message = "이벤트 ID는 필수입니다.")
+    private Long eventId;
+
+    @NotEmpty(message = "좌석 ID 목록은 필수입니다.")
+    @Size(max = 8, message = "한 번에 최대 8개 좌석까지 예약할 수 있습니다.")
+    private List<@NotNull Long> seatIds;
+
+    @NotNull(message = "사용자 ID는 필수입니다.")
+    private Long userId;
+}
@@ -1,7 +1,10 @@
 package com.concerthub.domain.reservation.dto.response;
 
+import com.concerthub.domain.event.service.EventSnapshot;
 import com.concerthub.domain.reservation.entity.Reservation;
 import com.concerthub.domain.reservation.entity.status.ReservationStatus;
+import com.concerthub.domain.reservation.repository.ReservationView;
+import com.concerthub.domain.seat.entity.Seat;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -51,14 +54,30 @@ public class ReservationResponse {
     }
 
     public static ReservationResponse from(Reservation reservation) {
+        return from(reservation, EventInfo.builder()
+                .id(reservation.getEvent().getId())
+                .title(reservation.getEvent().getTitle())
+                .venue(reservation.getEvent().getVenue())
+                .eventDateTime(reservation.getEvent().getEventDateTime())
+                .build());
+    }
+
+    /**
+     * 이벤트 정보는 캐시된 스냅샷에서 채움 (예약의 이벤트 프록시를 초기화하지 않음)
+     */
+    public static ReservationResponse from(Reservation reservation, EventSnapshot event) {
+        return from(reservation, EventInfo.builder()
+                .id(event.id())
+                .title(event.title())
+                .venue(event.venue())
+                .eventDateTime(event.eventDateTime())
+                .build());
+    }
+
+    private static ReservationResponse from(Reservation reservation, EventInfo event) {
         return ReservationResponse.builder()
                 .id(reservation.getId())
-                .event(EventInfo.builder()
-                        .id(reservation.getEvent().getId())
-                        .title(reservation.getEvent().getTitle())
-                        .venue(reservation.getEvent().getVenue())
-                        .eventDateTime(reservation.getEvent().getEventDateTime())
-                        .build())
+                .event(event)
                 .seat(SeatInfo.builder()
                         .id(reservation.getSeat().getId())
                         .seatRow(reservation.getSeat().getSeatRow())
@@ -80,4 +99,36 @@ public class ReservationResponse {
                 .updatedAt(reservation.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    public static ReservationResponse from(ReservationView reservation) {
+        return ReservationResponse.builder()
+                .id(reservation.getId())
+                .event(EventInfo.builder()
+                        .id(reservation.getEventId())
+                        .title(reservation.getEventTitle())
+                        .venue(reservation.getEventVenue())
+                        .eventDateTime(reservation.getEventDateTime())
+                        .build())
+                .seat(SeatInfo.builder()
+                        .id(reservation.getSeatId())
+                        .seatRow(reservation.getSeatRow())
+                        .seatNumber(reservation.getSeatNumber())
+                        .seatDisplay(Seat.formatSeatDisplay(
+                                reservation.getSeatSection(), reservation.getSeatRow(), reservation.getSeatNumber()))
+                        .price(reservation.getSeatPrice())
+                        .build())
+                .user(UserInfo.builder()
+                        .id(reservation.getUserId())
+                        .name(reservation.getUserName())
+                        .email(reservation.getUserEmail())
+                        .build())
+                .status(reservation.getStatus())
+                .totalPrice(reservation.getTotalPrice())
+                .expiresAt(reservation.getExpiresAt())
+                .minutesUntilExpiry(reservation.getMinutesUntilExpiry())
+                .paymentId(reservation.getPaymentId())
+                .createdAt(reservation.getCreatedAt())
+                .updatedAt(reservation.getUpdatedAt())
+                .build();
+    }
+}
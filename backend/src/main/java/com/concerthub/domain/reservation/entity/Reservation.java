@@ -6,6 +6,7 @@ import com.concerthub.domain.seat.entity.Seat;
 import com.concerthub.domain.user.entity.User;
 import com.concerthub.global.exception.BusinessException;
 import com.concerthub.global.exception.ErrorCode;
+import com.concerthub.global.policy.HoldPolicy;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -18,7 +19,15 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations",
+        indexes = {
+                @Index(name = "idx_reservations_status_expires_at", columnList = "status, expires_at"),
+                @Index(name = "idx_reservations_seat_status", columnList = "seat_id, status"),
+                @Index(name = "idx_reservations_user_created_at", columnList = "user_id, created_at"),
+                @Index(name = "idx_reservations_event_created_at", columnList = "event_id, created_at"),
+                @Index(name = "idx_reservations_created_at", columnList = "created_at"),
+                @Index(name = "idx_reservations_status_created_at", columnList = "status, created_at")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -68,7 +77,7 @@ public class Reservation {
         this.user = user;
         this.totalPrice = totalPrice;
         this.status = ReservationStatus.PENDING;
-        this.expiresAt = LocalDateTime.now().plusMinutes(15); // 15분 후 만료
+        this.expiresAt = LocalDateTime.now().plusMinutes(HoldPolicy.HOLD_MINUTES); // 15분 후 만료
     }
 
     // 비즈니스 로직
@@ -118,6 +127,10 @@ public class Reservation {
         return this.status == ReservationStatus.CONFIRMED;
     }
 
+    public boolean isOwnedBy(Long userId) {
+        return this.user.getId().equals(userId);
+    }
+
     public boolean canBeCancelled() {
         return this.status == ReservationStatus.PENDING || this.status == ReservationStatus.CONFIRMED;
     }
@@ -0,0 +1,18 @@
+package com.concerthub.domain.reservation.event;
+
+import com.concerthub.domain.reservation.entity.Reservation;
+
+import java.time.LocalDateTime;
+
+/**
+ * 임시 예약 생성 이벤트 (커밋 이후 만료 큐 등록용)
+ */
+public record ReservationHeldEvent(
+        Long reservationId,
+        LocalDateTime expiresAt
+) {
+
+    public static ReservationHeldEvent from(Reservation reservation) {
+        return new ReservationHeldEvent(reservation.getId(), reservation.getExpiresAt());
+    }
+}
@@ -0,0 +1,125 @@
+package com.concerthub.domain.reservation.expiry;
+
+import com.concerthub.domain.reservation.entity.status.ReservationStatus;
+import com.concerthub.domain.reservation.event.ReservationHeldEvent;
+import com.concerthub.domain.reservation.repository.ReservationRepository;
+import com.concerthub.domain.reservation.service.ReservationExpiryService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임시 예약 만료 큐
+ * 예약 생성 시 만료 시각을 등록해 두고, 전용 스레드가 만료 시각이 된 예약을 즉시 만료 처리한다.
+ * 기동 시 DB 의 PENDING 예약으로 재구성하며, 주기 스캔은 누락 대비용으로만 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationExpiryQueue {
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationExpiryService reservationExpiryService;
+
+    private final DelayQueue<ExpiringReservation> queue = new DelayQueue<>();
+    private volatile Thread worker;
+
+    /**
+     * 기동 시 DB 에서 대기 중 예약을 읽어 큐 재구성 후 만료 처리 스레드 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<Object[]> pendingExpiries = reservationRepository.findExpiriesByStatus(ReservationStatus.PENDING);
+        for (Object[] row : pendingExpiries) {
+            schedule((Long) row[0], (LocalDateTime) row[1]);
+        }
+        log.info("예약 만료 큐 재구성 완료: {}건", pendingExpiries.size());
+
+        worker = new Thread(this::run, "reservation-expiry");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    /**
+     * 커밋된 임시 예약을 만료 큐에 등록
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationHeld(ReservationHeldEvent event) {
+        schedule(event.reservationId(), event.expiresAt());
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private void schedule(Long reservationId, LocalDateTime expiresAt) {
+        if (expiresAt == null) {
+            return;
+        }
+        // 밀리초 미만 절삭으로 만료 직전에 깨어나지 않도록 1ms 여유를 둔다
+        long expiresAtMillis = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + 1;
+        queue.put(new ExpiringReservation(reservationId, expiresAtMillis));
+    }
+
+    private void run() {
+        List<ExpiringReservation> due = new ArrayList<>();
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                // 첫 만료 건을 기다린 뒤, 같은 시점에 만료된 건을 함께 꺼낸다
+                due.add(queue.take());
+                queue.drainTo(due);
+
+                expire(due.stream().map(ExpiringReservation::reservationId).toList());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                due.clear();
+            }
+        }
+    }
+
+    private void expire(List<Long> reservationIds) {
+        try {
+            int expired = reservationExpiryService.expireReservations(reservationIds);
+            log.debug("예약 만료 처리: 대상 {}건, 만료 {}건", reservationIds.size(), expired);
+        } catch (Exception e) {
+            // 실패한 건은 주기 스캔이 다시 처리한다
+            log.error("예약 만료 처리 중 오류 발생: 대상 {}건", reservationIds.size(), e);
+        }
+    }
+
+    private record ExpiringReservation(Long reservationId, long expiresAtMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiresAtMillis, ((ExpiringReservation) other).expiresAtMillis);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.concerthub.domain.reservation.repository;
+
+import com.concerthub.domain.reservation.entity.status.ReservationStatus;
+import com.concerthub.domain.seat.entity.Seat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약 대량 쓰기 전용 저장소
+ * IDENTITY 전략에서는 Hibernate 배치 INSERT 가 불가능하므로 JDBC 배치로 한 번에 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationBulkRepository {
+
+    private static final String INSERT_PENDING_SQL =
+            "INSERT INTO reservations (event_id, seat_id, user_id, status, total_price, expires_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertPendingReservations(Long eventId, Long userId, List<Seat> seats, LocalDateTime expiresAt) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp expiry = Timestamp.valueOf(expiresAt);
+
+        jdbcTemplate.batchUpdate(INSERT_PENDING_SQL, seats, seats.size(), (ps, seat) -> {
+            ps.setLong(1, eventId);
+            ps.setLong(2, seat.getId());
+            ps.setLong(3, userId);
+            ps.setString(4, ReservationStatus.PENDING.name());
+            ps.setInt(5, seat.getPrice());
+            ps.setTimestamp(6, expiry);
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+}
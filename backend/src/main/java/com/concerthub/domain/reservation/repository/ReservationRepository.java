@@ -3,10 +3,9 @@ package com.concerthub.domain.reservation.repository;
 import com.concerthub.domain.reservation.entity.Reservation;
 import com.concerthub.domain.reservation.entity.status.ReservationStatus;
 import jakarta.persistence.LockModeType;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,19 +21,65 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     // 사용자별 예약 목록
     List<Reservation> findByUserIdOrderByCreatedAtDesc(Long userId);
 
+    // 사용자별 예약 목록 (이벤트/좌석/사용자 조인 프로젝션, 단일 쿼리)
+    @Query("SELECT r.id AS id, r.status AS status, r.totalPrice AS totalPrice, r.expiresAt AS expiresAt, " +
+           "r.paymentId AS paymentId, r.createdAt AS createdAt, r.updatedAt AS updatedAt, " +
+           "e.id AS eventId, e.title AS eventTitle, e.venue AS eventVenue, e.eventDateTime AS eventDateTime, " +
+           "s.id AS seatId, s.section AS seatSection, s.seatRow AS seatRow, s.seatNumber AS seatNumber, s.price AS seatPrice, " +
+           "u.id AS userId, u.name AS userName, u.email AS userEmail " +
+           "FROM Reservation r JOIN r.event e JOIN r.seat s JOIN r.user u " +
+           "WHERE u.id = :userId ORDER BY r.createdAt DESC")
+    List<ReservationView> findViewsByUserId(@Param("userId") Long userId);
+
     // 상태별 예약 조회
     List<Reservation> findByStatus(ReservationStatus status);
 
-    // 만료된 예약 조회
-    @Query("SELECT r FROM Reservation r WHERE r.status = :status AND r.expiresAt < :currentTime")
-    List<Reservation> findExpiredReservations(@Param("status") ReservationStatus status,
-                                              @Param("currentTime") LocalDateTime currentTime);
+    // 만료된 대기 예약 청크 잠금 조회 [예약ID, 좌석ID, 이벤트ID] (다른 트랜잭션이 잠근 행은 건너뜀)
+    @Query(value = "SELECT r.id, r.seat_id, r.event_id FROM reservations r " +
+                   "WHERE r.status = 'PENDING' AND r.expires_at < :currentTime " +
+                   "ORDER BY r.id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Object[]> lockExpiredPendingReservations(@Param("currentTime") LocalDateTime currentTime,
+                                                  @Param("limit") int limit);
+
+    // 지정한 예약 중 만료된 대기 예약 잠금 조회 [예약ID, 좌석ID, 이벤트ID]
+    @Query(value = "SELECT r.id, r.seat_id, r.event_id FROM reservations r " +
+                   "WHERE r.id IN (:ids) AND r.status = 'PENDING' AND r.expires_at < :currentTime " +
+                   "ORDER BY r.id FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockExpiredPendingReservationsByIds(@Param("ids") List<Long> ids,
+                                                       @Param("currentTime") LocalDateTime currentTime);
+
+    // 예약 상태 일괄 변경
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = :status, r.updatedAt = :now WHERE r.id IN :ids")
+    int updateStatusByIds(@Param("ids") List<Long> ids,
+                          @Param("status") ReservationStatus status,
+                          @Param("now") LocalDateTime now);
+
+    // 상태별 예약 ID 와 만료 시각 조회 (만료 큐 재구성용)
+    @Query("SELECT r.id, r.expiresAt FROM Reservation r WHERE r.status = :status AND r.expiresAt IS NOT NULL")
+    List<Object[]> findExpiriesByStatus(@Param("status") ReservationStatus status);
 
     // 특정 좌석의 활성 예약 확인 (PENDING, CONFIRMED 상태)
     @Query("SELECT r FROM Reservation r WHERE r.seat.id = :seatId AND r.status IN (:statuses)")
     Optional<Reservation> findActiveBySeatId(@Param("seatId") Long seatId,
                                              @Param("statuses") List<ReservationStatus> statuses);
 
+    // 여러 좌석 중 활성 예약이 있는 좌석 ID 조회
+    @Query("SELECT r.seat.id FROM Reservation r WHERE r.seat.id IN :seatIds AND r.status IN (:statuses)")
+    List<Long> findActiveSeatIds(@Param("seatIds") List<Long> seatIds,
+                                 @Param("statuses") List<ReservationStatus> statuses);
+
+    // 사용자의 좌석별 예약을 연관 엔티티와 함께 조회
+    @Query("SELECT r FROM Reservation r " +
+           "JOIN FETCH r.event e " +
+           "JOIN FETCH r.seat s " +
+           "JOIN FETCH r.user u " +
+           "WHERE u.id = :userId AND s.id IN :seatIds AND r.status = :status " +
+           "ORDER BY s.id ASC")
+    List<Reservation> findByUserIdAndSeatIdsWithDetails(@Param("userId") Long userId,
+                                                        @Param("seatIds") List<Long> seatIds,
+                                                        @Param("status") ReservationStatus status);
+
     // 비관적 락으로 예약 조회 (동시성 제어용)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT r FROM Reservation r WHERE r.id = :id")
@@ -44,26 +89,6 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     @Query("SELECT COUNT(r) FROM Reservation r WHERE r.event.id = :eventId AND r.status = :status")
     Long countByEventIdAndStatus(@Param("eventId") Long eventId, @Param("status") ReservationStatus status);
 
-    // 관리자용 예약 검색 (복합 조건)
-    @Query("SELECT r FROM Reservation r " +
-           "JOIN FETCH r.event e " +
-           "JOIN FETCH r.seat s " +
-           "JOIN FETCH r.user u " +
-           "WHERE (:eventId IS NULL OR r.event.id = :eventId) " +
-           "AND (:status IS NULL OR r.status = :status) " +
-           "AND (:startDate IS NULL OR r.createdAt >= :startDate) " +
-           "AND (:endDate IS NULL OR r.createdAt <= :endDate) " +
-           "AND (:userEmail IS NULL OR LOWER(u.email) LIKE LOWER(CONCAT('%', :userEmail, '%'))) " +
-           "AND (:userName IS NULL OR LOWER(u.name) LIKE LOWER(CONCAT('%', :userName, '%')))")
-    Page<Reservation> findReservationsWithFilters(
-            @Param("eventId") Long eventId,
-            @Param("status") ReservationStatus status,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            @Param("userEmail") String userEmail,
-            @Param("userName") String userName,
-            Pageable pageable);
-
     // 예약 통계 - 상태별 개수
     @Query("SELECT r.status, COUNT(r) FROM Reservation r GROUP BY r.status")
     List<Object[]> countReservationsByStatus();
@@ -81,10 +106,4 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
            "WHERE r.status = 'CONFIRMED' AND r.createdAt >= :startDate AND r.createdAt < :endDate")
     BigDecimal sumConfirmedRevenueByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
-    // 이벤트별 예약 현황 (페이지네이션)
-    @Query("SELECT r FROM Reservation r " +
-           "JOIN FETCH r.seat s " +
-           "JOIN FETCH r.user u " +
-           "WHERE r.event.id = :eventId")
-    Page<Reservation> findByEventIdWithDetails(@Param("eventId") Long eventId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.concerthub.domain.reservation.repository;
+
+import com.concerthub.domain.reservation.entity.status.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 예약 검색 조건 (null 이거나 빈 값인 조건은 WHERE 절에 넣지 않는다)
+ * userEmail, userName 은 앞부분 일치.
+ */
+public record ReservationSearchCondition(
+        Long eventId,
+        ReservationStatus status,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        String userEmail,
+        String userName
+) {
+
+    public ReservationSearchCondition {
+        userEmail = normalize(userEmail);
+        userName = normalize(userName);
+    }
+
+    public static ReservationSearchCondition ofEvent(Long eventId) {
+        return new ReservationSearchCondition(eventId, null, null, null, null, null);
+    }
+
+    public boolean hasUserFilter() {
+        return userEmail != null || userName != null;
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
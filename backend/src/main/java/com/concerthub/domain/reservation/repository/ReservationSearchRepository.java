@@ -0,0 +1,139 @@
+package com.concerthub.domain.reservation.repository;
+
+import com.concerthub.domain.reservation.entity.Reservation;
+import com.concerthub.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 예약 검색 저장소
+ * 값이 있는 조건만 WHERE 절에 넣어 (:x IS NULL OR ...) 없이 인덱스를 타게 하고,
+ * (created_at, id) 키셋으로 페이지를 넘겨 OFFSET 과 COUNT 쿼리 없이 어느 페이지든 같은 비용으로 읽는다.
+ * 문자열 비교는 LOWER() 로 감싸지 않는다. V1 은 콜레이션을 지정하지 않아 DB 기본값을 따르는데,
+ * MySQL 8 기본값(utf8mb4_0900_ai_ci)과 docker-compose 설정(utf8mb4_unicode_ci) 모두 대소문자를 무시한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationSearchRepository {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final EntityManager entityManager;
+
+    /**
+     * 키셋 다음 페이지 조회 (이벤트/좌석/사용자 페치 조인, afterCreatedAt 이 null 이면 첫 페이지)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Reservation> findPage(ReservationSearchCondition condition,
+                                      LocalDateTime afterCreatedAt, Long afterId,
+                                      boolean descending, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Reservation> query = cb.createQuery(Reservation.class);
+        Root<Reservation> reservation = query.from(Reservation.class);
+        reservation.fetch("event");
+        reservation.fetch("seat");
+        // Hibernate 의 페치 조인은 Join 이기도 해서 사용자 조건을 같은 조인에 건다
+        Join<Reservation, User> user = (Join<Reservation, User>) reservation.<Reservation, User>fetch("user");
+
+        List<Predicate> predicates = buildPredicates(cb, reservation, user, condition);
+        if (afterCreatedAt != null) {
+            predicates.add(keysetPredicate(cb, reservation, afterCreatedAt, afterId, descending));
+        }
+
+        Expression<LocalDateTime> createdAt = reservation.get("createdAt");
+        Expression<Long> id = reservation.get("id");
+        List<Order> orders = descending
+                ? List.of(cb.desc(createdAt), cb.desc(id))
+                : List.of(cb.asc(createdAt), cb.asc(id));
+
+        query.select(reservation)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orders);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * 조건에 맞는 예약 수를 최대 cap + 1 건까지만 센다 (cap 을 넘으면 cap + 1 반환)
+     * 예약 ID 만 인덱스에서 읽고 상한에서 멈추므로 전체 COUNT(*) 와 달리 비용이 cap 에 묶인다.
+     */
+    public long countUpTo(ReservationSearchCondition condition, int cap) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Reservation> reservation = query.from(Reservation.class);
+        Join<Reservation, User> user = condition.hasUserFilter() ? reservation.join("user") : null;
+
+        query.select(reservation.<Long>get("id"))
+                .where(buildPredicates(cb, reservation, user, condition).toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(cap + 1)
+                .getResultList()
+                .size();
+    }
+
+    private List<Predicate> buildPredicates(CriteriaBuilder cb, Root<Reservation> reservation,
+                                            From<Reservation, User> user, ReservationSearchCondition condition) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (condition.eventId() != null) {
+            predicates.add(cb.equal(reservation.get("event").get("id"), condition.eventId()));
+        }
+        if (condition.status() != null) {
+            predicates.add(cb.equal(reservation.get("status"), condition.status()));
+        }
+        if (condition.startDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(reservation.<LocalDateTime>get("createdAt"), condition.startDate()));
+        }
+        if (condition.endDate() != null) {
+            predicates.add(cb.lessThanOrEqualTo(reservation.<LocalDateTime>get("createdAt"), condition.endDate()));
+        }
+        if (condition.userEmail() != null) {
+            // '@' 포함 여부와 관계없이 앞부분 일치 (uk_users_email 범위 스캔)
+            predicates.add(cb.like(user.<String>get("email"), startsWith(condition.userEmail()), LIKE_ESCAPE));
+        }
+        if (condition.userName() != null) {
+            predicates.add(cb.like(user.<String>get("name"), startsWith(condition.userName()), LIKE_ESCAPE));
+        }
+
+        return predicates;
+    }
+
+    // (created_at, id) 가 커서보다 뒤인 행: created_at 이 같으면 id 로 구분
+    private Predicate keysetPredicate(CriteriaBuilder cb, Root<Reservation> reservation,
+                                      LocalDateTime afterCreatedAt, Long afterId, boolean descending) {
+        Expression<LocalDateTime> createdAt = reservation.get("createdAt");
+        Expression<Long> id = reservation.get("id");
+
+        if (descending) {
+            return cb.or(
+                    cb.lessThan(createdAt, afterCreatedAt),
+                    cb.and(cb.equal(createdAt, afterCreatedAt), cb.lessThan(id, afterId)));
+        }
+        return cb.or(
+                cb.greaterThan(createdAt, afterCreatedAt),
+                cb.and(cb.equal(createdAt, afterCreatedAt), cb.greaterThan(id, afterId)));
+    }
+
+    // 사용자 입력의 LIKE 와일드카드는 글자 그대로 비교
+    private static String startsWith(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+}
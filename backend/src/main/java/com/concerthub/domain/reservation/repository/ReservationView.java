@@ -0,0 +1,57 @@
+package com.concerthub.domain.reservation.repository;
+
+import com.concerthub.domain.reservation.entity.status.ReservationStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 목록 조회용 프로젝션 (이벤트/좌석/사용자를 조인해 한 번에 조회)
+ */
+public interface ReservationView {
+
+    Long getId();
+
+    ReservationStatus getStatus();
+
+    Integer getTotalPrice();
+
+    LocalDateTime getExpiresAt();
+
+    String getPaymentId();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getEventId();
+
+    String getEventTitle();
+
+    String getEventVenue();
+
+    LocalDateTime getEventDateTime();
+
+    Long getSeatId();
+
+    String getSeatSection();
+
+    String getSeatRow();
+
+    String getSeatNumber();
+
+    Integer getSeatPrice();
+
+    Long getUserId();
+
+    String getUserName();
+
+    String getUserEmail();
+
+    default long getMinutesUntilExpiry() {
+        if (getExpiresAt() == null) {
+            return -1;
+        }
+        return Duration.between(LocalDateTime.now(), getExpiresAt()).toMinutes();
+    }
+}
@@ -0,0 +1,77 @@
+package com.concerthub.domain.reservation.service;
+
+import com.concerthub.domain.seat.service.SeatService;
+import com.concerthub.global.policy.HoldPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 임시 예약 일괄 만료
+ * 만료 대상을 청크 단위로 나눠 청크마다 짧은 트랜잭션에서 집합 단위 UPDATE 로 처리한다.
+ * 엔티티를 영속성 컨텍스트에 올리지 않고, 락도 청크 크기만큼만 잠깐 잡는다.
+ */
+@Slf4j
+@Service
+public class ReservationExpiryService {
+
+    private final ReservationService reservationService;
+    private final SeatService seatService;
+    private final int chunkSize;
+
+    public ReservationExpiryService(ReservationService reservationService,
+                                    SeatService seatService,
+                                    @Value("${reservation.expiry.chunk-size:500}") int chunkSize) {
+        this.reservationService = reservationService;
+        this.seatService = seatService;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 만료된 대기 예약과 예약 없이 임시 선점된 좌석을 모두 정리
+     */
+    public ExpiryReport expireAll() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int expiredReservations = 0;
+        int reservationChunks = 0;
+        int processed;
+        do {
+            processed = reservationService.expireReservationChunk(now, chunkSize);
+            expiredReservations += processed;
+            reservationChunks++;
+        } while (processed == chunkSize);
+
+        int releasedSeats = 0;
+        LocalDateTime seatExpiredTime = now.minusMinutes(HoldPolicy.HOLD_MINUTES);
+        do {
+            processed = seatService.releaseExpiredTemporaryReservationChunk(seatExpiredTime, chunkSize);
+            releasedSeats += processed;
+        } while (processed == chunkSize);
+
+        ExpiryReport report = new ExpiryReport(expiredReservations, releasedSeats, reservationChunks);
+        if (expiredReservations > 0 || releasedSeats > 0) {
+            log.info("만료 정리 완료: 예약 {}건, 좌석 {}건 ({}개 청크)",
+                    expiredReservations, releasedSeats, reservationChunks);
+        }
+        return report;
+    }
+
+    /**
+     * 지정한 예약 일괄 만료 (청크 단위로 나눠 처리, 처리 건수 반환)
+     */
+    public int expireReservations(List<Long> reservationIds) {
+        int expired = 0;
+        for (int from = 0; from < reservationIds.size(); from += chunkSize) {
+            List<Long> chunk = reservationIds.subList(from, Math.min(from + chunkSize, reservationIds.size()));
+            expired += reservationService.expireReservations(chunk);
+        }
+        return expired;
+    }
+
+    public record ExpiryReport(int expiredReservations, int releasedSeats, int chunks) {
+    }
+}
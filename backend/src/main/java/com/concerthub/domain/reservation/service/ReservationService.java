@@ -1,24 +1,35 @@
 package com.concerthub.domain.reservation.service;
 
-import com.concerthub.domain.event.entity.Event;
 import com.concerthub.domain.event.service.EventService;
+import com.concerthub.domain.event.service.EventSnapshot;
 import com.concerthub.domain.reservation.entity.Reservation;
 import com.concerthub.domain.reservation.entity.status.ReservationStatus;
+import com.concerthub.domain.reservation.event.ReservationHeldEvent;
+import com.concerthub.domain.reservation.repository.ReservationBulkRepository;
 import com.concerthub.domain.reservation.repository.ReservationRepository;
+import com.concerthub.domain.reservation.repository.ReservationView;
+import com.concerthub.domain.seat.engine.HoldResult;
+import com.concerthub.domain.seat.engine.SeatStateEngine;
 import com.concerthub.domain.seat.entity.Seat;
 import com.concerthub.domain.seat.entity.status.SeatStatus;
+import com.concerthub.domain.seat.event.SeatStatusChangedEvent;
 import com.concerthub.domain.seat.repository.SeatRepository;
 import com.concerthub.domain.user.entity.User;
 import com.concerthub.domain.user.repository.UserRepository;
 import com.concerthub.global.exception.BusinessException;
 import com.concerthub.global.exception.ErrorCode;
+import com.concerthub.global.policy.HoldPolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -26,15 +37,25 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ReservationService {
 
+    private static final List<ReservationStatus> ACTIVE_STATUSES =
+            List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+
     private final ReservationRepository reservationRepository;
+    private final ReservationBulkRepository reservationBulkRepository;
     private final SeatRepository seatRepository;
     private final UserRepository userRepository;
     private final EventService eventService;
+    private final SeatStateEngine seatStateEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Reservation createReservation(Long eventId, Long seatId, Long userId) {
-        // 1. 엔티티 조회
-        Event event = eventService.getEvent(eventId);
+        // 0. 이벤트 예매 가능 여부 (캐시된 스냅샷, 오픈 전 요청은 좌석을 선점하지 않음)
+        EventSnapshot event = eventService.getEventSnapshot(eventId);
+        validateEventOnSale(event);
+
+        // 1. 인메모리 좌석 선점 (선점에 실패한 요청은 DB 에 접근하지 않음)
+        holdInEngine(eventId, seatId);
         User user = getUserById(userId);
 
         // 2. 비관적 락으로 좌석 조회 (동시성 제어)
@@ -45,32 +66,99 @@ public class ReservationService {
         validateReservationPossible(seat, event);
 
         // 4. 기존 활성 예약 확인
-        List<ReservationStatus> activeStatuses = List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
-        reservationRepository.findActiveBySeatId(seatId, activeStatuses)
+        reservationRepository.findActiveBySeatId(seatId, ACTIVE_STATUSES)
                 .ifPresent(existingReservation -> {
                     throw new BusinessException(ErrorCode.SEAT_ALREADY_RESERVED,
                             "이미 예약된 좌석입니다.");
                 });
 
         // 5. 좌석 임시 예약 처리
+        SeatStatus previousStatus = seat.getStatus();
         try {
             seat.temporaryReserve();
         } catch (IllegalStateException e) {
             throw new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE, e.getMessage());
         }
+        eventPublisher.publishEvent(SeatStatusChangedEvent.of(seat, previousStatus));
 
         // 6. 예약 생성
         Reservation reservation = Reservation.builder()
-                .event(event)
+                .event(eventService.getEventReference(eventId))
                 .seat(seat)
                 .user(user)
                 .totalPrice(seat.getPrice())
                 .build();
 
+        Reservation savedReservation = reservationRepository.save(reservation);
+        eventPublisher.publishEvent(ReservationHeldEvent.from(savedReservation));
+
         log.info("예약 생성 완료: 사용자={}, 좌석={}, 가격={}",
                 userId, seat.getSeatDisplay(), seat.getPrice());
 
-        return reservationRepository.save(reservation);
+        return savedReservation;
+    }
+
+    /**
+     * 여러 좌석 일괄 임시 예약 (전부 성공하거나 전부 실패)
+     */
+    @Transactional
+    public List<Reservation> createReservations(Long eventId, List<Long> seatIds, Long userId) {
+        // 0. 좌석 ID 중복 제거 및 오름차순 정렬 (락 획득 순서 고정)
+        List<Long> sortedSeatIds = seatIds.stream()
+                .distinct()
+                .sorted()
+                .toList();
+
+        // 1. 이벤트 예매 가능 여부 (캐시된 스냅샷, 오픈 전 요청은 좌석을 선점하지 않음)
+        EventSnapshot event = eventService.getEventSnapshot(eventId);
+        validateEventOnSale(event);
+
+        // 2. 인메모리 좌석 선점 (하나라도 실패하면 롤백 시 전부 해제)
+        for (Long seatId : sortedSeatIds) {
+            holdInEngine(eventId, seatId);
+        }
+        getUserById(userId); // 사용자 존재 확인
+
+        // 3. 단일 SELECT ... FOR UPDATE 로 좌석 일괄 잠금
+        List<Seat> seats = seatRepository.findAllByIdInWithLock(sortedSeatIds);
+        if (seats.size() != sortedSeatIds.size()) {
+            throw new BusinessException(ErrorCode.SEAT_NOT_FOUND);
+        }
+
+        // 4. 예약 가능 여부 검증
+        for (Seat seat : seats) {
+            validateReservationPossible(seat, event);
+        }
+
+        // 5. 기존 활성 예약 일괄 확인
+        List<Long> reservedSeatIds = reservationRepository.findActiveSeatIds(sortedSeatIds, ACTIVE_STATUSES);
+        if (!reservedSeatIds.isEmpty()) {
+            throw new BusinessException(ErrorCode.SEAT_ALREADY_RESERVED,
+                    "이미 예약된 좌석이 포함되어 있습니다: " + reservedSeatIds);
+        }
+
+        // 6. 좌석 임시 예약 처리
+        for (Seat seat : seats) {
+            SeatStatus previousStatus = seat.getStatus();
+            try {
+                seat.temporaryReserve();
+            } catch (IllegalStateException e) {
+                throw new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE, e.getMessage());
+            }
+            eventPublisher.publishEvent(SeatStatusChangedEvent.of(seat, previousStatus));
+        }
+
+        // 7. 예약 일괄 저장 (단일 JDBC 배치)
+        reservationBulkRepository.insertPendingReservations(eventId, userId, seats,
+                LocalDateTime.now().plusMinutes(HoldPolicy.HOLD_MINUTES));
+
+        List<Reservation> reservations = reservationRepository
+                .findByUserIdAndSeatIdsWithDetails(userId, sortedSeatIds, ReservationStatus.PENDING);
+        reservations.forEach(reservation -> eventPublisher.publishEvent(ReservationHeldEvent.from(reservation)));
+
+        log.info("일괄 예약 생성 완료: 사용자={}, 좌석 수={}", userId, seats.size());
+
+        return reservations;
     }
 
     @Transactional
@@ -87,20 +175,17 @@ public class ReservationService {
         }
 
         // 3. 좌석 상태 변경 (임시예약 → 확정예약)
-        Seat seat = reservation.getSeat();
+        // 만료 정리와 같은 순서(예약 → 좌석)로 좌석을 잠가 마감 시각의 해제와 엇갈리지 않게 한다
+        Seat seat = seatRepository.findByIdWithLock(reservation.getSeat().getId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.SEAT_NOT_FOUND));
+        SeatStatus previousStatus = seat.getStatus();
         try {
             seat.reserve();
         } catch (IllegalStateException e) {
             throw new BusinessException(ErrorCode.INVALID_SEAT_OPERATION, e.getMessage());
         }
-
-        // 4. 이벤트 잔여석 감소
-        Event event = reservation.getEvent();
-        try {
-            event.decreaseAvailableSeats();
-        } catch (IllegalStateException e) {
-            throw new BusinessException(ErrorCode.INVALID_SEAT_COUNT, e.getMessage());
-        }
+        // 이벤트 잔여석은 커밋 후 AvailableSeatCounter 가 좌석 상태 전이로 반영
+        eventPublisher.publishEvent(SeatStatusChangedEvent.of(seat, previousStatus));
 
         log.info("예약 확정 완료: 예약ID={}, 결제ID={}", reservationId, paymentId);
 
@@ -129,13 +214,10 @@ public class ReservationService {
 
         // 4. 좌석 상태 원복
         Seat seat = reservation.getSeat();
+        SeatStatus previousStatus = seat.getStatus();
         seat.cancelReservation();
-
-        // 5. 확정된 예약이었다면 이벤트 잔여석 증가
-        if (wasConfirmed) {
-            Event event = reservation.getEvent();
-            event.increaseAvailableSeats();
-        }
+        // 확정된 예약이었다면 커밋 후 AvailableSeatCounter 가 잔여석 증가 반영
+        eventPublisher.publishEvent(SeatStatusChangedEvent.of(seat, previousStatus));
 
         log.info("예약 취소 완료: 예약ID={}, 확정예약여부={}", reservationId, wasConfirmed);
 
@@ -147,30 +229,83 @@ public class ReservationService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESERVATION_NOT_FOUND));
     }
 
-    public List<Reservation> getUserReservations(Long userId) {
+    /**
+     * 본인 예약 조회 (결제 확정 경로의 소유권 확인)
+     */
+    public Reservation getReservationOwnedBy(Long reservationId, Long userId) {
+        Reservation reservation = getReservationById(reservationId);
+        if (!reservation.isOwnedBy(userId)) {
+            throw new BusinessException(ErrorCode.RESERVATION_ACCESS_DENIED);
+        }
+        return reservation;
+    }
+
+    public List<ReservationView> getUserReservations(Long userId) {
         getUserById(userId); // 사용자 존재 확인
-        return reservationRepository.findByUserIdOrderByCreatedAtDesc(userId);
+        return reservationRepository.findViewsByUserId(userId);
+    }
+
+    /**
+     * 만료된 대기 예약 한 청크를 집합 단위 UPDATE 로 만료 처리 (처리 건수 반환)
+     */
+    @Transactional
+    public int expireReservationChunk(LocalDateTime now, int chunkSize) {
+        List<Object[]> rows = reservationRepository.lockExpiredPendingReservations(now, chunkSize);
+        return expireLockedReservations(rows, now);
     }
 
+    /**
+     * 지정한 예약 중 만료 시각이 지난 대기 예약만 일괄 만료 처리 (이미 확정/취소된 예약은 무시)
+     */
     @Transactional
-    public void cleanupExpiredReservations() {
+    public int expireReservations(List<Long> reservationIds) {
         LocalDateTime now = LocalDateTime.now();
-        List<Reservation> expiredReservations = reservationRepository
-                .findExpiredReservations(ReservationStatus.PENDING, now);
+        List<Object[]> rows = reservationRepository.lockExpiredPendingReservationsByIds(reservationIds, now);
+        return expireLockedReservations(rows, now);
+    }
+
+    private void holdInEngine(Long eventId, Long seatId) {
+        if (!seatStateEngine.isEnabled()) {
+            return;
+        }
+
+        if (seatStateEngine.holdWithinTransaction(eventId, seatId) == HoldResult.UNAVAILABLE) {
+            throw new BusinessException(ErrorCode.SEAT_ALREADY_RESERVED, "이미 예약된 좌석입니다.");
+        }
+    }
+
+    // rows: 잠금 조회된 [예약ID, 좌석ID, 이벤트ID]
+    private int expireLockedReservations(List<Object[]> rows, LocalDateTime now) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
 
-        for (Reservation reservation : expiredReservations) {
-            log.info("만료된 예약 정리: 예약ID={}", reservation.getId());
+        List<Long> reservationIds = new ArrayList<>(rows.size());
+        Map<Long, Long> eventIdsBySeatId = new HashMap<>();
+        for (Object[] row : rows) {
+            reservationIds.add(((Number) row[0]).longValue());
+            eventIdsBySeatId.put(((Number) row[1]).longValue(), ((Number) row[2]).longValue());
+        }
 
-            // 예약 만료 처리
-            reservation.expireReservation();
+        // 확정과 같은 순서(예약 → 좌석)로 좌석도 잠그고, 아직 임시 예약인 좌석만 원복
+        List<Long> heldSeatIds = seatRepository.lockTemporarilyReservedSeatIds(new ArrayList<>(eventIdsBySeatId.keySet()));
 
-            // 좌석 상태 원복
-            reservation.getSeat().cancelReservation();
+        // 예약 만료 및 좌석 상태 원복 (청크당 UPDATE 2회)
+        reservationRepository.updateStatusByIds(reservationIds, ReservationStatus.EXPIRED, now);
+        if (!heldSeatIds.isEmpty()) {
+            seatRepository.releaseTemporaryReservations(heldSeatIds, now);
         }
 
-        if (!expiredReservations.isEmpty()) {
-            log.info("만료된 예약 {}건 정리 완료", expiredReservations.size());
+        for (Long seatId : heldSeatIds) {
+            eventPublisher.publishEvent(new SeatStatusChangedEvent(
+                    eventIdsBySeatId.get(seatId),
+                    seatId,
+                    SeatStatus.TEMPORARILY_RESERVED,
+                    SeatStatus.AVAILABLE
+            ));
         }
+
+        return reservationIds.size();
     }
 
     private User getUserById(Long userId) {
@@ -178,21 +313,27 @@ public class ReservationService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     }
 
-    private void validateReservationPossible(Seat seat, Event event) {
+    private void validateEventOnSale(EventSnapshot event) {
+        if (!event.isOpen()) {
+            throw new BusinessException(ErrorCode.EVENT_NOT_AVAILABLE,
+                    "예약할 수 없는 이벤트입니다.");
+        }
+
+        if (!event.isOnSale(LocalDateTime.now())) {
+            throw new BusinessException(ErrorCode.EVENT_NOT_ON_SALE,
+                    "예매 오픈 시각은 " + event.onSaleAt() + " 입니다.");
+        }
+    }
+
+    private void validateReservationPossible(Seat seat, EventSnapshot event) {
         // 좌석 예약 가능 여부
         if (!seat.isAvailable()) {
             throw new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE,
                     "예약할 수 없는 좌석입니다. 현재 상태: " + seat.getStatus());
         }
 
-        // 이벤트 예약 가능 여부
-        if (event.getStatus() != com.concerthub.domain.event.entity.status.EventStatus.OPEN) {
-            throw new BusinessException(ErrorCode.EVENT_NOT_AVAILABLE,
-                    "예약할 수 없는 이벤트입니다.");
-        }
-
         // 좌석이 해당 이벤트의 것인지 확인
-        if (!seat.getEvent().getId().equals(event.getId())) {
+        if (!seat.getEvent().getId().equals(event.id())) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
                     "해당 이벤트의 좌석이 아닙니다.");
         }
@@ -0,0 +1,53 @@
+package com.concerthub.domain.reservation.service;
+
+import com.concerthub.domain.reservation.entity.Reservation;
+import com.concerthub.domain.seat.engine.SeatStateEngine;
+import com.concerthub.global.exception.BusinessException;
+import com.concerthub.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 최적 연속 좌석 자동 배정
+ * 좌석 상태 엔진의 행별 빈 구간 인덱스로 후보를 고르고, 일괄 예약으로 원자적으로 확보한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatAllocationService {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final SeatStateEngine seatStateEngine;
+    private final ReservationService reservationService;
+
+    public List<Reservation> reserveBestAvailable(Long eventId, int quantity, Long userId) {
+        if (!seatStateEngine.isEnabled()) {
+            throw new BusinessException(ErrorCode.SEAT_ALLOCATION_UNAVAILABLE);
+        }
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            List<Long> seatIds = seatStateEngine.findBestContiguousSeats(eventId, quantity);
+            if (seatIds.isEmpty()) {
+                throw new BusinessException(ErrorCode.NOT_ENOUGH_CONTIGUOUS_SEATS);
+            }
+
+            try {
+                return reservationService.createReservations(eventId, seatIds, userId);
+            } catch (BusinessException e) {
+                // 후보 좌석을 다른 요청이 먼저 선점한 경우에만 다음 후보로 재시도
+                if (e.getErrorCode() != ErrorCode.SEAT_ALREADY_RESERVED
+                        && e.getErrorCode() != ErrorCode.SEAT_NOT_AVAILABLE) {
+                    throw e;
+                }
+                log.debug("연속 좌석 선점 경합으로 재시도: 이벤트ID={}, 시도={}", eventId, attempt);
+            }
+        }
+
+        throw new BusinessException(ErrorCode.NOT_ENOUGH_CONTIGUOUS_SEATS,
+                "좌석 선점 경합으로 배정에 실패했습니다. 다시 시도해주세요.");
+    }
+}
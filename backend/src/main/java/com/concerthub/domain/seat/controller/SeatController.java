@@ -1,28 +1,56 @@
 package com.concerthub.domain.seat.controller;
 
 import com.concerthub.domain.seat.dto.request.SeatCreateRequest;
+import com.concerthub.domain.seat.dto.response.SeatLayoutResponse;
+import com.concerthub.domain.seat.dto.response.SeatMapDeltaResponse;
 import com.concerthub.domain.seat.dto.response.SeatResponse;
+import com.concerthub.domain.seat.dto.response.SeatStatusMapResponse;
+import com.concerthub.domain.seat.dto.response.SeatStreamTokenResponse;
 import com.concerthub.domain.seat.dto.response.SeatSummaryResponse;
+import com.concerthub.domain.seat.engine.SeatLayout;
 import com.concerthub.domain.seat.entity.Seat;
+import com.concerthub.domain.seat.repository.SeatView;
 import com.concerthub.domain.seat.service.SeatService;
+import com.concerthub.domain.seat.service.SeatStreamService;
+import com.concerthub.domain.seat.service.SeatStreamTokenProvider;
+import com.concerthub.global.datasource.ReadConsistency;
 import com.concerthub.global.exception.BusinessException;
 import com.concerthub.global.exception.ErrorCode;
+import com.concerthub.global.jwt.userdetails.CustomUserDetails;
 import com.concerthub.global.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 좌석 API
+ * 좌석 맵 ETag 는 primary 커밋 직후 올라가는 메모리 버전이라, 본문을 replica 에서 읽으면
+ * 복제 지연된 좌석 맵이 새 ETag 로 캐시되어 다음 변경 전까지 304 로 남는다. 그래서 primary 에서 읽는다.
+ */
 @RestController
 @RequestMapping("/api/events/{eventId}/seats")
+@ReadConsistency(ReadConsistency.Level.STRONG)
 @RequiredArgsConstructor
 public class SeatController {
 
+    private static final String LAYOUT_VERSION_HEADER = "X-Layout-Version";
+    private static final String SEAT_COUNT_HEADER = "X-Seat-Count";
+    private static final String SEAT_MAP_VERSION_HEADER = "X-Seat-Map-Version";
+
     private final SeatService seatService;
+    private final SeatStreamService seatStreamService;
+    private final SeatStreamTokenProvider seatStreamTokenProvider;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -45,19 +73,48 @@ public class SeatController {
                 String.format("총 %d개의 좌석이 생성되었습니다.", seats.size()));
     }
 
+    /**
+     * 좌석 맵 조회 (ETag = 좌석 맵 버전, 변경이 없으면 DB 조회 없이 304)
+     */
     @GetMapping
-    public ApiResponse<List<SeatResponse>> getEventSeats(@PathVariable Long eventId) {
-        List<Seat> seats = seatService.getEventSeats(eventId);
+    public ResponseEntity<ApiResponse<List<SeatResponse>>> getEventSeats(
+            @PathVariable Long eventId,
+            WebRequest webRequest) {
+
+        long version = seatService.getSeatMapVersion(eventId);
+        if (webRequest.checkNotModified(seatMapETag(version))) {
+            return null;
+        }
+
+        List<SeatView> seats = seatService.getEventSeats(eventId);
         List<SeatResponse> responses = seats.stream()
                 .map(SeatResponse::from)
                 .collect(Collectors.toList());
 
-        return ApiResponse.success(responses);
+        return seatMapResponse(version, ApiResponse.success(responses));
+    }
+
+    /**
+     * sinceVersion 이후 변경된 좌석만 조회 (오래된 버전이면 전체 스냅샷)
+     */
+    @GetMapping(params = "sinceVersion")
+    public ResponseEntity<ApiResponse<SeatMapDeltaResponse>> getEventSeatsSince(
+            @PathVariable Long eventId,
+            @RequestParam long sinceVersion,
+            WebRequest webRequest) {
+
+        long version = seatService.getSeatMapVersion(eventId);
+        if (webRequest.checkNotModified(seatMapETag(version))) {
+            return null;
+        }
+
+        SeatMapDeltaResponse delta = seatService.getSeatMapSince(eventId, sinceVersion);
+        return seatMapResponse(delta.getVersion(), ApiResponse.success(delta));
     }
 
     @GetMapping("/available")
     public ApiResponse<List<SeatResponse>> getAvailableSeats(@PathVariable Long eventId) {
-        List<Seat> seats = seatService.getAvailableSeats(eventId);
+        List<SeatView> seats = seatService.getAvailableSeats(eventId);
         List<SeatResponse> responses = seats.stream()
                 .map(SeatResponse::from)
                 .collect(Collectors.toList());
@@ -67,19 +124,96 @@ public class SeatController {
 
     @GetMapping("/summary")
     public ApiResponse<SeatSummaryResponse> getSeatSummary(@PathVariable Long eventId) {
-        List<Seat> seats = seatService.getEventSeats(eventId);
+        return ApiResponse.success(seatService.getSeatSummary(eventId));
+    }
 
-        Map<String, Integer> seatCounts = seats.stream()
-                .collect(Collectors.groupingBy(
-                        seat -> seat.getStatus().name(),
-                        Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)
-                ));
+    /**
+     * 좌석 스트림 구독 토큰 발급 (인증/대기실 입장 확인을 거친 요청에서만 발급)
+     */
+    @PostMapping("/stream-token")
+    public ApiResponse<SeatStreamTokenResponse> issueStreamToken(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        Integer minPrice = seats.stream().mapToInt(Seat::getPrice).min().orElse(0);
-        Integer maxPrice = seats.stream().mapToInt(Seat::getPrice).max().orElse(0);
+        SeatStreamTokenResponse response = SeatStreamTokenResponse.builder()
+                .token(seatStreamTokenProvider.createToken(eventId, userDetails.getId()))
+                .expiresInSeconds(seatStreamTokenProvider.getTokenTtlSeconds())
+                .build();
+        return ApiResponse.success(response);
+    }
+
+    /**
+     * 좌석 상태 변경 실시간 스트림 (SSE, 재연결 시 Last-Event-ID 이후 변경분부터 전송)
+     * EventSource 는 헤더를 보낼 수 없어 구독 토큰을 쿼리 파라미터로 받는다.
+     * 이어 받을 버전은 Last-Event-ID 헤더(자동 재연결) 또는 lastEventId 파라미터(수동 재연결)로 받는다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeatChanges(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) String token,
+            @RequestParam(value = "lastEventId", required = false) Long lastEventIdParam,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        if (!seatStreamTokenProvider.isValid(token, eventId)) {
+            throw new BusinessException(ErrorCode.INVALID_SEAT_STREAM_TOKEN);
+        }
 
-        SeatSummaryResponse summary = SeatSummaryResponse.of(eventId, seatCounts, minPrice, maxPrice);
-        return ApiResponse.success(summary);
+        return seatStreamService.subscribe(eventId, lastEventId != null ? lastEventId : lastEventIdParam);
+    }
+
+    /**
+     * 정적 좌석 배치 (행, 좌석 번호, 가격 등급)
+     * version 파라미터가 현재 배치 버전과 같으면 영구 캐시, 아니면 ETag 로 재검증
+     */
+    @GetMapping("/layout")
+    public ResponseEntity<ApiResponse<SeatLayoutResponse>> getSeatLayout(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) String version,
+            WebRequest webRequest) {
+
+        SeatLayoutResponse layout = seatService.getSeatLayout(eventId);
+        String etag = "\"" + layout.getLayoutVersion() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        CacheControl cacheControl = layout.getLayoutVersion().equals(version)
+                ? CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+                : CacheControl.noCache();
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(etag)
+                .body(ApiResponse.success(layout));
+    }
+
+    /**
+     * 좌석 상태 비트맵 (좌석당 2비트, 좌석 배치의 서수 순서)
+     */
+    @GetMapping(value = "/status", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getSeatStatusBitmap(@PathVariable Long eventId) {
+        SeatLayout layout = seatService.getSeatLayoutSnapshot(eventId);
+        byte[] statuses = seatService.getPackedSeatStatuses(eventId);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .header(LAYOUT_VERSION_HEADER, layout.version())
+                .header(SEAT_COUNT_HEADER, String.valueOf(layout.seatCount()))
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(statuses);
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<ApiResponse<SeatStatusMapResponse>> getSeatStatusMap(@PathVariable Long eventId) {
+        SeatLayout layout = seatService.getSeatLayoutSnapshot(eventId);
+        byte[] statuses = seatService.getPackedSeatStatuses(eventId);
+
+        SeatStatusMapResponse response = SeatStatusMapResponse.of(
+                eventId, layout.version(), layout.seatCount(), statuses);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(response));
     }
 
     @GetMapping("/{seatId}")
@@ -120,4 +254,16 @@ public class SeatController {
         Seat seat = seatService.cancelReservation(seatId);
         return ApiResponse.success(SeatResponse.from(seat), "좌석 예약이 취소되었습니다.");
     }
-}
\ No newline at end of file
+
+    private String seatMapETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    private <T> ResponseEntity<T> seatMapResponse(long version, T body) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(seatMapETag(version))
+                .header(SEAT_MAP_VERSION_HEADER, String.valueOf(version))
+                .body(body);
+    }
+}
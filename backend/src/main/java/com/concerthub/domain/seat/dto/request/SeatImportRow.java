@@ -0,0 +1,12 @@
+package com.concerthub.domain.seat.dto.request;
+
+/**
+ * 좌석 가져오기 한 줄 (CSV: section,row,number,price / JSON: 같은 필드의 객체 배열)
+ */
+public record SeatImportRow(
+        String section,
+        String row,
+        String number,
+        Integer price
+) {
+}
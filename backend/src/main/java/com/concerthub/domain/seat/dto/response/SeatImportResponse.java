@@ -0,0 +1,34 @@
+package com.concerthub.domain.seat.dto.response;
+
+import com.concerthub.domain.seat.service.SeatImportProgress;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class SeatImportResponse {
+
+    private Long eventId;
+    private SeatImportProgress.Status status;
+    private Integer importedSeats;
+    private Integer committedChunks;
+    private Long elapsedMillis;
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static SeatImportResponse from(SeatImportProgress progress) {
+        return SeatImportResponse.builder()
+                .eventId(progress.getEventId())
+                .status(progress.getStatus())
+                .importedSeats(progress.getImportedSeats())
+                .committedChunks(progress.getCommittedChunks())
+                .elapsedMillis(progress.getElapsedMillis())
+                .errorMessage(progress.getErrorMessage())
+                .startedAt(progress.getStartedAt())
+                .finishedAt(progress.getFinishedAt())
+                .build();
+    }
+}
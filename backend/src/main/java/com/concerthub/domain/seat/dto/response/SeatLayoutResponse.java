@@ -0,0 +1,57 @@
+package com.concerthub.domain.seat.dto.response;
+
+import com.concerthub.domain.seat.engine.SeatLayout;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 정적 좌석 배치 (상태 비트맵의 서수 순서: rows 순서대로 각 행의 좌석을 이어 붙인 순서)
+ */
+@Getter
+@Builder
+public class SeatLayoutResponse {
+
+    private Long eventId;
+    private String layoutVersion;
+    private Integer seatCount;
+    private List<Integer> priceTiers; // 가격 등급별 가격 (비싼 순)
+    private List<Row> rows;
+
+    @Getter
+    @Builder
+    public static class Row {
+        private String label;
+        private long[] seatIds;
+        private String[] seatNumbers;
+        private int[] tiers; // 좌석별 priceTiers 인덱스
+    }
+
+    public static SeatLayoutResponse from(Long eventId, SeatLayout layout) {
+        return SeatLayoutResponse.builder()
+                .eventId(eventId)
+                .layoutVersion(layout.version())
+                .seatCount(layout.seatCount())
+                .priceTiers(layout.priceTiers())
+                .rows(layout.rows().stream()
+                        .map(row -> Row.builder()
+                                .label(row.label())
+                                .seatIds(row.seatIds())
+                                .seatNumbers(row.seatNumbers())
+                                .tiers(row.tiers())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    public static SeatLayoutResponse empty(Long eventId) {
+        return SeatLayoutResponse.builder()
+                .eventId(eventId)
+                .layoutVersion(SeatLayout.EMPTY_VERSION)
+                .seatCount(0)
+                .priceTiers(List.of())
+                .rows(List.of())
+                .build();
+    }
+}
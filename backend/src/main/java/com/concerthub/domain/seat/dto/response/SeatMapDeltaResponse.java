@@ -0,0 +1,61 @@
+package com.concerthub.domain.seat.dto.response;
+
+import com.concerthub.domain.seat.engine.SeatChange;
+import com.concerthub.domain.seat.entity.status.SeatStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * sinceVersion 이후 좌석 맵 변경분
+ * 변경 기록으로 이어 붙일 수 없으면 snapshot=true 와 함께 전체 좌석을 seats 에 담는다.
+ */
+@Getter
+@Builder
+public class SeatMapDeltaResponse {
+
+    private Long eventId;
+    private Long version;
+    private boolean snapshot;
+    private List<SeatResponse> seats;   // 전체 스냅샷 (snapshot=true)
+    private List<Change> changes;       // 변경된 좌석 (snapshot=false)
+
+    @Getter
+    @Builder
+    public static class Change {
+        private Long seatId;
+        private SeatStatus status;
+        private Long version;
+
+        public static Change from(SeatChange change) {
+            return Change.builder()
+                    .seatId(change.seatId())
+                    .status(change.status())
+                    .version(change.version())
+                    .build();
+        }
+    }
+
+    public static SeatMapDeltaResponse ofChanges(Long eventId, long version, List<SeatChange> changes) {
+        return SeatMapDeltaResponse.builder()
+                .eventId(eventId)
+                .version(version)
+                .snapshot(false)
+                .seats(List.of())
+                .changes(changes.stream()
+                        .map(Change::from)
+                        .toList())
+                .build();
+    }
+
+    public static SeatMapDeltaResponse ofSnapshot(Long eventId, long version, List<SeatResponse> seats) {
+        return SeatMapDeltaResponse.builder()
+                .eventId(eventId)
+                .version(version)
+                .snapshot(true)
+                .seats(seats)
+                .changes(List.of())
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.concerthub.domain.seat.dto.response;
 
 import com.concerthub.domain.seat.entity.Seat;
 import com.concerthub.domain.seat.entity.status.SeatStatus;
+import com.concerthub.domain.seat.repository.SeatView;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -13,6 +14,7 @@ public class SeatResponse {
 
     private Long id;
     private Long eventId;
+    private String section;
     private String seatRow;
     private String seatNumber;
     private String seatDisplay;
@@ -27,6 +29,7 @@ public class SeatResponse {
         return SeatResponse.builder()
                 .id(seat.getId())
                 .eventId(seat.getEvent().getId())
+                .section(seat.getSection())
                 .seatRow(seat.getSeatRow())
                 .seatNumber(seat.getSeatNumber())
                 .seatDisplay(seat.getSeatDisplay())
@@ -38,4 +41,21 @@ public class SeatResponse {
                 .updatedAt(seat.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    public static SeatResponse from(SeatView seat) {
+        return SeatResponse.builder()
+                .id(seat.getId())
+                .eventId(seat.getEventId())
+                .section(seat.getSection())
+                .seatRow(seat.getSeatRow())
+                .seatNumber(seat.getSeatNumber())
+                .seatDisplay(seat.getSeatDisplay())
+                .price(seat.getPrice())
+                .status(seat.getStatus())
+                .temporaryReservedAt(seat.getTemporaryReservedAt())
+                .isExpired(seat.isTemporaryReservationExpired())
+                .createdAt(seat.getCreatedAt())
+                .updatedAt(seat.getUpdatedAt())
+                .build();
+    }
+}
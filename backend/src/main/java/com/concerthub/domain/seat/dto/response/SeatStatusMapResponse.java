@@ -0,0 +1,31 @@
+package com.concerthub.domain.seat.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Base64;
+
+/**
+ * 좌석당 2비트로 압축한 좌석 상태 (Base64)
+ * 서수 i 의 상태 = (bytes[i / 4] >> ((i % 4) * 2)) & 0b11, 값은 SeatStatus 순서
+ */
+@Getter
+@Builder
+public class SeatStatusMapResponse {
+
+    private Long eventId;
+    private String layoutVersion;
+    private Integer seatCount;
+    private Integer bitsPerSeat;
+    private String statuses;
+
+    public static SeatStatusMapResponse of(Long eventId, String layoutVersion, int seatCount, byte[] packedStatuses) {
+        return SeatStatusMapResponse.builder()
+                .eventId(eventId)
+                .layoutVersion(layoutVersion)
+                .seatCount(seatCount)
+                .bitsPerSeat(2)
+                .statuses(Base64.getEncoder().encodeToString(packedStatuses))
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.concerthub.domain.seat.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SeatStreamTokenResponse {
+
+    private String token;
+    private Long expiresInSeconds;  // 이 시간 안에 스트림에 연결해야 함
+}
@@ -0,0 +1,259 @@
+package com.concerthub.domain.seat.engine;
+
+import com.concerthub.domain.seat.entity.Seat;
+import com.concerthub.domain.seat.entity.SeatCoordinates;
+import com.concerthub.domain.seat.entity.status.SeatStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이벤트 한 건의 좌석 상태를 좌석 서수(행/번호 정렬 순서) 기준 원시 배열로 보관
+ * 좌석별 상태 전이는 CAS 로만 수행되어 DB 락 없이 선점 경쟁을 판정한다.
+ */
+public class EventSeatState {
+
+    private static final SeatStatus[] STATUSES = SeatStatus.values();
+    private static final int AVAILABLE = SeatStatus.AVAILABLE.ordinal();
+
+    private final Long eventId;
+    private final long[] seatIds;          // 서수 → 좌석 ID
+    private final long[] sortedSeatIds;    // 좌석 ID 이진 탐색용
+    private final int[] sortedOrdinals;    // sortedSeatIds 위치 → 서수
+    private final AtomicIntegerArray statuses;
+
+    private final int[] rowStarts;                 // 행 번호 → 첫 좌석 서수 (앞줄부터)
+    private final RowFreeIntervals[] rowIntervals; // 행 번호 → 빈 좌석 구간
+
+    private final String[] rowLabels;    // 행 번호 → 행 이름
+    private final String[] seatNumbers;  // 서수 → 좌석 번호
+    private final int[] prices;          // 서수 → 가격
+
+    private final AtomicIntegerArray statusCounts = new AtomicIntegerArray(STATUSES.length); // 상태별 좌석 수
+    private final int minPrice;
+    private final int maxPrice;
+
+    private final AtomicLong modCount = new AtomicLong(); // 상태 변경 횟수 (스냅샷 재사용 판단용)
+    private volatile PackedStatuses packedStatuses;
+    private volatile SeatLayout layout;
+
+    private EventSeatState(Long eventId, long[] seatIds, AtomicIntegerArray statuses, int[] rowStarts,
+                           String[] rowLabels, String[] seatNumbers, int[] prices) {
+        this.eventId = eventId;
+        this.seatIds = seatIds;
+        this.statuses = statuses;
+        this.rowStarts = rowStarts;
+        this.rowLabels = rowLabels;
+        this.seatNumbers = seatNumbers;
+        this.prices = prices;
+        this.minPrice = Arrays.stream(prices).min().orElse(0);
+        this.maxPrice = Arrays.stream(prices).max().orElse(0);
+        for (int ordinal = 0; ordinal < seatIds.length; ordinal++) {
+            statusCounts.incrementAndGet(statuses.get(ordinal));
+        }
+
+        Integer[] order = new Integer[seatIds.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(seatIds[a], seatIds[b]));
+
+        this.sortedSeatIds = new long[seatIds.length];
+        this.sortedOrdinals = new int[seatIds.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedSeatIds[i] = seatIds[order[i]];
+            sortedOrdinals[i] = order[i];
+        }
+
+        this.rowIntervals = new RowFreeIntervals[rowStarts.length];
+        for (int row = 0; row < rowStarts.length; row++) {
+            int start = rowStarts[row];
+            int end = rowEnd(row);
+            rowIntervals[row] = new RowFreeIntervals(end - start);
+            for (int ordinal = start; ordinal < end; ordinal++) {
+                if (statuses.get(ordinal) == AVAILABLE) {
+                    rowIntervals[row].free(ordinal - start);
+                }
+            }
+        }
+    }
+
+    /**
+     * 좌석 목록으로 상태 구성 (좌석 좌표와 같은 구역 → 행 → 좌석 번호 순으로 서수 부여)
+     */
+    public static EventSeatState of(Long eventId, List<Seat> seats) {
+        List<Seat> orderedSeats = new ArrayList<>(seats);
+        orderedSeats.sort(SeatCoordinates.displayOrder(Seat::getSection, Seat::getSeatRow, Seat::getSeatNumber));
+
+        long[] seatIds = new long[orderedSeats.size()];
+        AtomicIntegerArray statuses = new AtomicIntegerArray(orderedSeats.size());
+        String[] seatNumbers = new String[orderedSeats.size()];
+        int[] prices = new int[orderedSeats.size()];
+        List<Integer> rowStarts = new ArrayList<>();
+        List<String> rowLabels = new ArrayList<>();
+
+        String currentSection = null;
+        String currentRow = null;
+        for (int i = 0; i < orderedSeats.size(); i++) {
+            Seat seat = orderedSeats.get(i);
+            seatIds[i] = seat.getId();
+            statuses.set(i, seat.getStatus().ordinal());
+            seatNumbers[i] = seat.getSeatNumber();
+            prices[i] = seat.getPrice();
+
+            if (!seat.getSeatRow().equals(currentRow) || !seat.getSection().equals(currentSection)) {
+                currentSection = seat.getSection();
+                currentRow = seat.getSeatRow();
+                rowStarts.add(i);
+                rowLabels.add(currentSection.isEmpty() ? currentRow : currentSection + " " + currentRow);
+            }
+        }
+
+        return new EventSeatState(eventId, seatIds, statuses,
+                rowStarts.stream().mapToInt(Integer::intValue).toArray(),
+                rowLabels.toArray(String[]::new), seatNumbers, prices);
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public int size() {
+        return seatIds.length;
+    }
+
+    public long seatIdAt(int ordinal) {
+        return seatIds[ordinal];
+    }
+
+    /**
+     * 좌석 ID → 서수 (해당 이벤트 좌석이 아니면 -1)
+     */
+    public int ordinalOf(Long seatId) {
+        int index = Arrays.binarySearch(sortedSeatIds, seatId);
+        return index < 0 ? -1 : sortedOrdinals[index];
+    }
+
+    public SeatStatus statusAt(int ordinal) {
+        return STATUSES[statuses.get(ordinal)];
+    }
+
+    public boolean compareAndSet(int ordinal, SeatStatus expected, SeatStatus updated) {
+        if (!statuses.compareAndSet(ordinal, expected.ordinal(), updated.ordinal())) {
+            return false;
+        }
+        onChanged(ordinal, expected.ordinal(), updated.ordinal());
+        return true;
+    }
+
+    public void set(int ordinal, SeatStatus status) {
+        int previous = statuses.getAndSet(ordinal, status.ordinal());
+        if (previous != status.ordinal()) {
+            onChanged(ordinal, previous, status.ordinal());
+        }
+    }
+
+    /**
+     * 상태별 좌석 수 (좌석 전이마다 증감, O(1))
+     */
+    public int countOf(SeatStatus status) {
+        return statusCounts.get(status.ordinal());
+    }
+
+    public int getMinPrice() {
+        return minPrice;
+    }
+
+    public int getMaxPrice() {
+        return maxPrice;
+    }
+
+    /**
+     * 좌석 상태를 좌석당 2비트로 압축한 배열 (서수 i → 바이트 i/4 의 (i%4)*2 번째 비트부터)
+     * 상태가 바뀌지 않았으면 직전 스냅샷을 그대로 재사용한다.
+     */
+    public byte[] packedStatuses() {
+        long currentModCount = modCount.get();
+        PackedStatuses snapshot = packedStatuses;
+        if (snapshot != null && snapshot.modCount() == currentModCount) {
+            return snapshot.bytes();
+        }
+
+        byte[] bytes = new byte[(seatIds.length + 3) / 4];
+        for (int ordinal = 0; ordinal < seatIds.length; ordinal++) {
+            bytes[ordinal >> 2] |= (byte) ((statuses.get(ordinal) & 0b11) << ((ordinal & 3) << 1));
+        }
+
+        packedStatuses = new PackedStatuses(currentModCount, bytes);
+        return bytes;
+    }
+
+    /**
+     * 정적 좌석 배치 (좌석 구성이 바뀌면 상태 자체가 다시 적재되므로 한 번만 생성)
+     */
+    public SeatLayout layout() {
+        SeatLayout current = layout;
+        if (current == null) {
+            current = SeatLayout.of(seatIds, rowStarts, rowLabels, seatNumbers, prices);
+            layout = current;
+        }
+        return current;
+    }
+
+    /**
+     * 앞줄부터 연속 빈 좌석 quantity 개를 찾아 좌석 ID 반환 (없으면 빈 목록)
+     * 선점은 하지 않으며, 실제 확보는 CAS 선점으로 다시 판정한다.
+     */
+    public List<Long> findBestContiguousSeats(int quantity) {
+        for (int row = 0; row < rowStarts.length; row++) {
+            int start = rowIntervals[row].findBestRun(quantity);
+            if (start < 0) {
+                continue;
+            }
+
+            List<Long> result = new ArrayList<>(quantity);
+            for (int i = 0; i < quantity; i++) {
+                result.add(seatIds[rowStarts[row] + start + i]);
+            }
+            return result;
+        }
+        return List.of();
+    }
+
+    private void onChanged(int ordinal, int previous, int current) {
+        statusCounts.decrementAndGet(previous);
+        statusCounts.incrementAndGet(current);
+        refreshInterval(ordinal);
+        modCount.incrementAndGet();
+    }
+
+    // 구간 갱신은 행 단위로 직렬화하고, 갱신 시점의 실제 상태를 다시 읽어 순서가 뒤바뀌어도 수렴하게 한다
+    private void refreshInterval(int ordinal) {
+        int row = rowOf(ordinal);
+        RowFreeIntervals intervals = rowIntervals[row];
+        int position = ordinal - rowStarts[row];
+
+        synchronized (intervals) {
+            if (statuses.get(ordinal) == AVAILABLE) {
+                intervals.free(position);
+            } else {
+                intervals.occupy(position);
+            }
+        }
+    }
+
+    private int rowOf(int ordinal) {
+        int index = Arrays.binarySearch(rowStarts, ordinal);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private int rowEnd(int row) {
+        return row + 1 < rowStarts.length ? rowStarts[row + 1] : seatIds.length;
+    }
+
+    private record PackedStatuses(long modCount, byte[] bytes) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.concerthub.domain.seat.engine;
+
+public enum HoldResult {
+    HELD,          // 인메모리 선점 성공
+    UNAVAILABLE,   // 이미 다른 요청이 선점한 좌석
+    UNKNOWN_SEAT   // 엔진이 알지 못하는 좌석 (DB 경로로 위임)
+}
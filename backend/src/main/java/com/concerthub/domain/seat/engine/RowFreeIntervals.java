@@ -0,0 +1,94 @@
+package com.concerthub.domain.seat.engine;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 행의 빈 좌석 구간 인덱스 (행 내 위치 기준 [start, end) 구간)
+ * 좌석 상태가 바뀔 때마다 갱신되어 연속 좌석 탐색 시 좌석을 하나씩 훑지 않아도 된다.
+ */
+class RowFreeIntervals {
+
+    private final int rowSize;
+    private final TreeMap<Integer, Integer> intervals = new TreeMap<>(); // start → end(exclusive)
+
+    RowFreeIntervals(int rowSize) {
+        this.rowSize = rowSize;
+    }
+
+    synchronized void free(int position) {
+        if (contains(position)) {
+            return;
+        }
+
+        int start = position;
+        int end = position + 1;
+
+        // 왼쪽 구간과 병합
+        Map.Entry<Integer, Integer> left = intervals.floorEntry(position - 1);
+        if (left != null && left.getValue() == position) {
+            start = left.getKey();
+            intervals.remove(left.getKey());
+        }
+
+        // 오른쪽 구간과 병합
+        Integer rightEnd = intervals.remove(position + 1);
+        if (rightEnd != null) {
+            end = rightEnd;
+        }
+
+        intervals.put(start, end);
+    }
+
+    synchronized void occupy(int position) {
+        Map.Entry<Integer, Integer> interval = intervals.floorEntry(position);
+        if (interval == null || interval.getValue() <= position) {
+            return;
+        }
+
+        int start = interval.getKey();
+        int end = interval.getValue();
+        intervals.remove(start);
+
+        if (start < position) {
+            intervals.put(start, position);
+        }
+        if (position + 1 < end) {
+            intervals.put(position + 1, end);
+        }
+    }
+
+    /**
+     * 연속 빈 좌석 quantity 개의 시작 위치 (행 중앙에 가까운 구간 우선, 없으면 -1)
+     */
+    synchronized int findBestRun(int quantity) {
+        double rowCenter = rowSize / 2.0;
+        int bestStart = -1;
+        double bestDistance = Double.MAX_VALUE;
+
+        for (Map.Entry<Integer, Integer> interval : intervals.entrySet()) {
+            int start = interval.getKey();
+            int end = interval.getValue();
+            if (end - start < quantity) {
+                continue;
+            }
+
+            // 구간 안에서 블록 중심을 행 중앙에 최대한 가깝게 배치
+            int idealStart = (int) Math.round(rowCenter - quantity / 2.0);
+            int candidate = Math.max(start, Math.min(idealStart, end - quantity));
+            double distance = Math.abs(candidate + quantity / 2.0 - rowCenter);
+
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                bestStart = candidate;
+            }
+        }
+
+        return bestStart;
+    }
+
+    private boolean contains(int position) {
+        Map.Entry<Integer, Integer> interval = intervals.floorEntry(position);
+        return interval != null && interval.getValue() > position;
+    }
+}
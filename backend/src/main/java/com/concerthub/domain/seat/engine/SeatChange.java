@@ -0,0 +1,11 @@
+package com.concerthub.domain.seat.engine;
+
+import com.concerthub.domain.seat.entity.status.SeatStatus;
+
+/**
+ * 좌석 맵 변경 기록 한 건
+ *
+ * @param version 변경 시점의 좌석 맵 버전
+ */
+public record SeatChange(long version, Long seatId, SeatStatus status) {
+}
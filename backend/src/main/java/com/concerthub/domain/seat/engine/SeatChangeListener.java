@@ -0,0 +1,15 @@
+package com.concerthub.domain.seat.engine;
+
+/**
+ * 커밋된 좌석 맵 변경 구독 (SeatStateEngine 이 변경 기록에 추가한 직후 호출)
+ * 구현체는 호출 스레드(커밋한 요청 스레드)를 붙잡지 않도록 빠르게 반환해야 한다.
+ */
+public interface SeatChangeListener {
+
+    void onSeatChanged(Long eventId, SeatChange change);
+
+    /**
+     * 좌석 구성이 바뀌어 이전 버전 기준 변경분을 이어 붙일 수 없음
+     */
+    void onSeatMapReset(Long eventId, long version);
+}
@@ -0,0 +1,64 @@
+package com.concerthub.domain.seat.engine;
+
+import com.concerthub.domain.seat.entity.status.SeatStatus;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 이벤트 한 건의 좌석 맵 버전과 최근 변경 기록 (고정 크기 링 버퍼)
+ * 버전은 밀리초 × 1000 에서 시작하므로 재기동 후에도 이전 버전보다 커지고,
+ * 재기동 전 버전이나 링에서 밀려난 버전으로 요청하면 전체 스냅샷이 필요하다고 판단한다.
+ */
+class SeatChangeLog {
+
+    private final SeatChange[] ring;
+    private long version;
+    private long resetVersion; // 이 버전 이하로는 변경 기록을 이어 붙일 수 없음
+
+    SeatChangeLog(int capacity) {
+        this.ring = new SeatChange[capacity];
+        this.version = System.currentTimeMillis() * 1000;
+        this.resetVersion = version;
+    }
+
+    synchronized long version() {
+        return version;
+    }
+
+    synchronized SeatChange append(Long seatId, SeatStatus status) {
+        version++;
+        SeatChange change = new SeatChange(version, seatId, status);
+        ring[(int) (version % ring.length)] = change;
+        return change;
+    }
+
+    /**
+     * 좌석 구성이 바뀌면 이전 버전 기준 변경분이 무의미해지므로 기록을 끊는다
+     */
+    synchronized long reset() {
+        version = Math.max(version + 1, System.currentTimeMillis() * 1000);
+        resetVersion = version;
+        return version;
+    }
+
+    /**
+     * sinceVersion 이후 변경된 좌석 (좌석별 마지막 상태만, 변경 기록으로 이어 붙일 수 없으면 empty)
+     */
+    synchronized Optional<List<SeatChange>> changesSince(long sinceVersion) {
+        if (sinceVersion < resetVersion || sinceVersion > version || version - sinceVersion > ring.length) {
+            return Optional.empty();
+        }
+
+        Map<Long, SeatChange> latest = new LinkedHashMap<>();
+        for (long v = sinceVersion + 1; v <= version; v++) {
+            SeatChange change = ring[(int) (v % ring.length)];
+            latest.remove(change.seatId());
+            latest.put(change.seatId(), change);
+        }
+        return Optional.of(new ArrayList<>(latest.values()));
+    }
+}
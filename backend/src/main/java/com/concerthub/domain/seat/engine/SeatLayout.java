@@ -0,0 +1,90 @@
+package com.concerthub.domain.seat.engine;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 이벤트의 정적 좌석 배치 (좌석 상태 비트맵의 서수 순서와 동일)
+ *
+ * @param version    좌석 구성 식별값 (좌석 ID/행/좌석 번호/가격의 SHA-256, 영구 캐시 키로 쓰이므로 구성이 바뀌면 반드시 달라져야 함)
+ * @param seatCount  전체 좌석 수
+ * @param priceTiers 가격 등급별 가격 (비싼 순)
+ * @param rows       앞줄부터 행별 좌석
+ */
+public record SeatLayout(
+        String version,
+        int seatCount,
+        List<Integer> priceTiers,
+        List<Row> rows
+) {
+
+    public static final String EMPTY_VERSION = "0";
+
+    public static final SeatLayout EMPTY = new SeatLayout(EMPTY_VERSION, 0, List.of(), List.of());
+
+    /**
+     * @param label       행 이름
+     * @param seatIds     좌석 ID (좌석 번호 순)
+     * @param seatNumbers 좌석 번호
+     * @param tiers       좌석별 가격 등급 (priceTiers 인덱스)
+     */
+    public record Row(String label, long[] seatIds, String[] seatNumbers, int[] tiers) {
+    }
+
+    static SeatLayout of(long[] seatIds, int[] rowStarts, String[] rowLabels, String[] seatNumbers, int[] prices) {
+        TreeSet<Integer> distinctPrices = new TreeSet<>(Comparator.reverseOrder());
+        for (int price : prices) {
+            distinctPrices.add(price);
+        }
+        List<Integer> priceTiers = List.copyOf(distinctPrices);
+
+        List<Row> rows = new ArrayList<>(rowStarts.length);
+        for (int row = 0; row < rowStarts.length; row++) {
+            int start = rowStarts[row];
+            int end = row + 1 < rowStarts.length ? rowStarts[row + 1] : seatIds.length;
+
+            int[] tiers = new int[end - start];
+            for (int ordinal = start; ordinal < end; ordinal++) {
+                tiers[ordinal - start] = priceTiers.indexOf(prices[ordinal]);
+            }
+
+            rows.add(new Row(
+                    rowLabels[row],
+                    Arrays.copyOfRange(seatIds, start, end),
+                    Arrays.copyOfRange(seatNumbers, start, end),
+                    tiers
+            ));
+        }
+
+        String version = digest(seatIds, rowStarts, rowLabels, seatNumbers, prices);
+        return new SeatLayout(version, seatIds.length, priceTiers, rows);
+    }
+
+    // 응답에 담기는 모든 값을 해시 (값 사이 구분자를 넣어 경계가 다른 배치가 같은 입력이 되지 않게 함)
+    private static String digest(long[] seatIds, int[] rowStarts, String[] rowLabels, String[] seatNumbers, int[] prices) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+
+        StringBuilder content = new StringBuilder(seatIds.length * 16);
+        for (int row = 0; row < rowStarts.length; row++) {
+            content.append('R').append(rowStarts[row]).append(':').append(rowLabels[row]).append('\n');
+        }
+        for (int ordinal = 0; ordinal < seatIds.length; ordinal++) {
+            content.append(seatIds[ordinal]).append(':')
+                    .append(seatNumbers[ordinal]).append(':')
+                    .append(prices[ordinal]).append('\n');
+        }
+        return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,379 @@
+package com.concerthub.domain.seat.engine;
+
+import com.concerthub.domain.event.entity.Event;
+import com.concerthub.domain.event.entity.status.EventStatus;
+import com.concerthub.domain.event.event.EventDeletedEvent;
+import com.concerthub.domain.event.repository.EventRepository;
+import com.concerthub.domain.seat.entity.Seat;
+import com.concerthub.domain.seat.entity.status.SeatStatus;
+import com.concerthub.domain.seat.event.SeatStatusChangedEvent;
+import com.concerthub.domain.seat.repository.SeatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 인메모리 좌석 상태 엔진
+ * OPEN 이벤트의 좌석 상태를 메모리에 유지하고 좌석 선점을 CAS 로 판정한다.
+ * 선점에 성공한 요청만 DB 트랜잭션(비관적 락 + 예약 저장)으로 진행하며,
+ * 커밋된 좌석 상태 전이는 SeatStatusChangedEvent 로 다시 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatStateEngine {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3; // 적재 중 재적재가 겹칠 때 다시 시도하는 횟수
+
+    private final SeatRepository seatRepository;
+    private final EventRepository eventRepository;
+    private final ObjectProvider<SeatChangeListener> changeListeners;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<Long, EventSeatState> states = new ConcurrentHashMap<>();
+    private final Map<Long, SeatChangeLog> changeLogs = new ConcurrentHashMap<>(); // 상태 재적재와 무관하게 유지
+    private final Set<Long> suspectedDrifts = ConcurrentHashMap.newKeySet();       // 직전 대사에서 불일치한 이벤트
+    private final Set<Long> suspendedEvents = ConcurrentHashMap.newKeySet();       // 좌석 가져오기 중인 이벤트 (적재 안 함)
+    private final Set<Long> emptyEvents = ConcurrentHashMap.newKeySet();           // 좌석이 없는 이벤트 (좌석 생성 시 evict 로 해제)
+
+    @Value("${seat-engine.enabled:false}")
+    private boolean enabled;
+
+    @Value("${seat-engine.change-log-size:1024}")
+    private int changeLogSize;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 기동 시 OPEN 이벤트의 좌석 상태를 DB 에서 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Event> openEvents = eventRepository.findByStatus(EventStatus.OPEN);
+        for (Event event : openEvents) {
+            getState(event.getId());
+        }
+
+        log.info("좌석 상태 엔진 초기화 완료: 이벤트 {}건", states.size());
+    }
+
+    /**
+     * 이벤트 좌석 상태 조회 (없으면 DB 에서 적재, 좌석이 없는 이벤트는 null)
+     */
+    public EventSeatState getState(Long eventId) {
+        if (suspendedEvents.contains(eventId) || emptyEvents.contains(eventId)) {
+            return null;
+        }
+
+        EventSeatState state = states.get(eventId);
+        return state != null ? state : loadAndCache(eventId);
+    }
+
+    /**
+     * 좌석 구성이 끝날 때까지 이벤트를 적재하지 않음 (일부만 커밋된 좌석 맵으로 선점하지 않도록)
+     */
+    public void suspend(Long eventId) {
+        suspendedEvents.add(eventId);
+        states.remove(eventId);
+        emptyEvents.remove(eventId);
+    }
+
+    /**
+     * 좌석 구성이 끝난 이벤트를 다음 접근 시 다시 적재
+     */
+    public void resume(Long eventId) {
+        suspendedEvents.remove(eventId);
+        evict(eventId);
+    }
+
+    /**
+     * 현재 트랜잭션 안에서 좌석 선점
+     * 트랜잭션이 커밋되지 못하면 선점을 되돌린다.
+     */
+    public HoldResult holdWithinTransaction(Long eventId, Long seatId) {
+        EventSeatState state = getState(eventId);
+        if (state == null) {
+            return HoldResult.UNKNOWN_SEAT;
+        }
+
+        int ordinal = state.ordinalOf(seatId);
+        if (ordinal < 0) {
+            return HoldResult.UNKNOWN_SEAT;
+        }
+
+        if (!state.compareAndSet(ordinal, SeatStatus.AVAILABLE, SeatStatus.TEMPORARILY_RESERVED)) {
+            return HoldResult.UNAVAILABLE;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(eventId, seatId);
+                    }
+                }
+            });
+        }
+
+        return HoldResult.HELD;
+    }
+
+    /**
+     * 인메모리 선점 해제 (임시 예약 → 예약 가능)
+     */
+    public void release(Long eventId, Long seatId) {
+        EventSeatState state = states.get(eventId);
+        if (state == null) {
+            return;
+        }
+
+        int ordinal = state.ordinalOf(seatId);
+        if (ordinal >= 0) {
+            state.compareAndSet(ordinal, SeatStatus.TEMPORARILY_RESERVED, SeatStatus.AVAILABLE);
+        }
+    }
+
+    /**
+     * 앞줄 우선 연속 빈 좌석 탐색 (선점하지 않음, 없으면 빈 목록)
+     */
+    public List<Long> findBestContiguousSeats(Long eventId, int quantity) {
+        EventSeatState state = getState(eventId);
+        if (state == null) {
+            return List.of();
+        }
+        return state.findBestContiguousSeats(quantity);
+    }
+
+    /**
+     * 정적 좌석 배치 (좌석이 없는 이벤트는 null)
+     */
+    public SeatLayout getLayout(Long eventId) {
+        EventSeatState state = getState(eventId);
+        return state == null ? null : state.layout();
+    }
+
+    /**
+     * 좌석당 2비트로 압축한 좌석 상태 (좌석 배치의 서수 순서, 좌석이 없는 이벤트는 빈 배열)
+     */
+    public byte[] getPackedStatuses(Long eventId) {
+        EventSeatState state = getState(eventId);
+        return state == null ? new byte[0] : state.packedStatuses();
+    }
+
+    /**
+     * 이벤트 좌석 맵 버전 (커밋된 좌석 상태 전이마다 1씩 증가)
+     */
+    public long getSeatMapVersion(Long eventId) {
+        return getChangeLog(eventId).version();
+    }
+
+    /**
+     * sinceVersion 이후 커밋된 좌석 변경분 (변경 기록에서 밀려났거나 알 수 없는 버전이면 empty → 전체 스냅샷)
+     */
+    public Optional<List<SeatChange>> getChangesSince(Long eventId, long sinceVersion) {
+        return getChangeLog(eventId).changesSince(sinceVersion);
+    }
+
+    /**
+     * 메모리에 적재된 이벤트 ID
+     */
+    public Set<Long> getLoadedEventIds() {
+        return Set.copyOf(states.keySet());
+    }
+
+    /**
+     * 상태별 좌석 수를 DB 에 커밋된 값과 대사, 두 번 연속 어긋나면 다시 적재 (재적재 시 true)
+     * 진행 중인 선점은 메모리에만 임시 예약으로 보이므로 예약 가능/임시 예약 간 차이는 허용한다.
+     * readVersion 은 DB 집계 직전의 좌석 맵 버전으로, 메모리 비교 후에도 같을 때만 판단한다.
+     * (집계와 메모리 읽기 사이에 커밋된 전이는 한쪽에만 반영되어 불일치로 보이므로 다음 주기로 미룬다)
+     */
+    public boolean reconcileCounts(Long eventId, long readVersion, Map<SeatStatus, Integer> committedCounts) {
+        EventSeatState state = states.get(eventId);
+        if (state == null) {
+            return false;
+        }
+
+        boolean drifted = isDrifted(state, committedCounts);
+        if (getChangeLog(eventId).version() != readVersion) {
+            return false;
+        }
+
+        if (!drifted) {
+            suspectedDrifts.remove(eventId);
+            return false;
+        }
+
+        if (suspectedDrifts.add(eventId)) {
+            return false;
+        }
+
+        log.warn("좌석 상태 불일치로 재적재: 이벤트ID={}, DB={}", eventId, committedCounts);
+        suspectedDrifts.remove(eventId);
+        evict(eventId);
+        return true;
+    }
+
+    /**
+     * 좌석 구성이 바뀐 이벤트는 다음 접근 시 다시 적재
+     */
+    public void evict(Long eventId) {
+        // 기록을 먼저 끊어야 진행 중인 적재가 끊긴 기록을 보고 자기 결과를 버린다
+        long version = getChangeLog(eventId).reset();
+        states.remove(eventId);
+        emptyEvents.remove(eventId);
+        notifyListeners(listener -> listener.onSeatMapReset(eventId, version));
+    }
+
+    /**
+     * 커밋된 좌석 상태 전이를 메모리에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        SeatChange change = getChangeLog(event.eventId()).append(event.seatId(), event.currentStatus());
+        notifyListeners(listener -> listener.onSeatChanged(event.eventId(), change));
+
+        EventSeatState state = states.get(event.eventId());
+        if (state != null) {
+            apply(state, event.seatId(), event.currentStatus());
+        }
+    }
+
+    /**
+     * 삭제된 이벤트의 좌석 상태와 변경 기록 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEventDeleted(EventDeletedEvent event) {
+        Long eventId = event.eventId();
+        states.remove(eventId);
+        emptyEvents.remove(eventId);
+        changeLogs.remove(eventId);
+        suspectedDrifts.remove(eventId);
+    }
+
+    private void notifyListeners(Consumer<SeatChangeListener> notification) {
+        changeListeners.orderedStream().forEach(listener -> {
+            try {
+                notification.accept(listener);
+            } catch (Exception e) {
+                log.error("좌석 변경 구독자 알림 중 오류 발생: {}", listener.getClass().getSimpleName(), e);
+            }
+        });
+    }
+
+    private boolean isDrifted(EventSeatState state, Map<SeatStatus, Integer> committedCounts) {
+        int committedTotal = 0;
+        for (SeatStatus status : SeatStatus.values()) {
+            committedTotal += committedCounts.getOrDefault(status, 0);
+        }
+
+        return committedTotal != state.size()
+                || state.countOf(SeatStatus.RESERVED) != committedCounts.getOrDefault(SeatStatus.RESERVED, 0)
+                || state.countOf(SeatStatus.BLOCKED) != committedCounts.getOrDefault(SeatStatus.BLOCKED, 0)
+                || state.countOf(SeatStatus.TEMPORARILY_RESERVED) < committedCounts.getOrDefault(SeatStatus.TEMPORARILY_RESERVED, 0);
+    }
+
+    private SeatChangeLog getChangeLog(Long eventId) {
+        return changeLogs.computeIfAbsent(eventId, id -> new SeatChangeLog(changeLogSize));
+    }
+
+    /**
+     * DB 적재는 맵 잠금(computeIfAbsent) 밖에서 수행하고 먼저 등록된 상태를 사용한다.
+     * 조회 이후 커밋된 전이는 아직 등록 전이라 반영되지 못했을 수 있으므로 변경 기록으로 다시 적용하고,
+     * 그 사이 재적재(evict)로 기록이 끊겼으면 결과를 버리고 다시 적재한다.
+     * 끝내 적재하지 못하면 null (호출 측은 DB 경로로 처리)
+     */
+    private EventSeatState loadAndCache(Long eventId) {
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            SeatChangeLog changeLog = getChangeLog(eventId);
+            long version = changeLog.version();
+            EventSeatState loaded = loadState(eventId);
+
+            if (loaded == null) {
+                emptyEvents.add(eventId);
+                if (changeLog.changesSince(version).isPresent()) {
+                    return null;
+                }
+                emptyEvents.remove(eventId);
+                continue;
+            }
+
+            EventSeatState current = states.putIfAbsent(eventId, loaded);
+            if (current != null) {
+                return current;
+            }
+
+            if (suspendedEvents.contains(eventId)) {
+                states.remove(eventId, loaded);
+                return null;
+            }
+
+            Optional<List<SeatChange>> missed = changeLog.changesSince(version);
+            if (missed.isPresent()) {
+                missed.get().forEach(change -> apply(loaded, change.seatId(), change.status()));
+                return loaded;
+            }
+            states.remove(eventId, loaded);
+        }
+
+        log.warn("좌석 상태 적재 중 좌석 구성이 계속 바뀌어 적재 보류: 이벤트ID={}", eventId);
+        return null;
+    }
+
+    private void apply(EventSeatState state, Long seatId, SeatStatus status) {
+        int ordinal = state.ordinalOf(seatId);
+        if (ordinal >= 0) {
+            state.set(ordinal, status);
+        }
+    }
+
+    private EventSeatState loadState(Long eventId) {
+        List<Seat> seats = loadSeatsFromPrimary(eventId);
+        if (seats.isEmpty()) {
+            return null;
+        }
+
+        log.debug("좌석 상태 적재: 이벤트ID={}, 좌석 수={}", eventId, seats.size());
+        return EventSeatState.of(eventId, seats);
+    }
+
+    /**
+     * 선점 판정의 기준이 되는 상태라 복제 지연이 있는 replica 에서 읽으면 안 된다.
+     * 쓰기 트랜잭션 안이면 이미 primary 커넥션이므로 그대로 조회하고,
+     * 읽기 전용 트랜잭션(replica 일 수 있음)이나 트랜잭션 밖이면 별도 쓰기 트랜잭션으로 primary 에서 조회한다.
+     */
+    private List<Seat> loadSeatsFromPrimary(Long eventId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return seatRepository.findByEventIdOrderByRowIdxAscSeatIdxAsc(eventId);
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate.execute(status -> seatRepository.findByEventIdOrderByRowIdxAscSeatIdxAsc(eventId));
+    }
+}
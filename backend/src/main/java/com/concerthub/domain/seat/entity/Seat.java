@@ -2,6 +2,7 @@ package com.concerthub.domain.seat.entity;
 
 import com.concerthub.domain.event.entity.Event;
 import com.concerthub.domain.seat.entity.status.SeatStatus;
+import com.concerthub.global.policy.HoldPolicy;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -16,7 +17,12 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "seats",
         uniqueConstraints = {
-                @UniqueConstraint(columnNames = {"event_id", "seat_row", "seat_number"})
+                @UniqueConstraint(columnNames = {"event_id", "section", "seat_row", "seat_number"})
+        },
+        indexes = {
+                @Index(name = "idx_seats_event_status_row_seat", columnList = "event_id, status, row_idx, seat_idx"),
+                @Index(name = "idx_seats_event_row_seat", columnList = "event_id, row_idx, seat_idx"),
+                @Index(name = "idx_seats_status_temporary_reserved_at", columnList = "status, temporary_reserved_at")
         })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -31,12 +37,25 @@ public class Seat {
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
 
+    @Column(nullable = false, length = 20)
+    private String section = ""; // 구역 (구역 구분이 없는 공연장은 빈 문자열)
+
     @Column(nullable = false, length = 5)
     private String seatRow;      // A, B, C 등
 
     @Column(nullable = false, length = 10)
     private String seatNumber;   // 1, 2, 3 등
 
+    // 정렬용 좌표 (SeatCoordinates 참고, 기존 좌석은 기동 시 채움)
+    @Column(name = "section_idx")
+    private Integer sectionIdx;
+
+    @Column(name = "row_idx")
+    private Integer rowIdx;      // 이벤트 전체 행 순서
+
+    @Column(name = "seat_idx")
+    private Integer seatIdx;     // 행 안의 좌석 순서
+
     @Column(nullable = false)
     private Integer price;
 
@@ -56,10 +75,15 @@ public class Seat {
     private LocalDateTime updatedAt;
 
     @Builder
-    public Seat(Event event, String seatRow, String seatNumber, Integer price) {
+    public Seat(Event event, String section, String seatRow, String seatNumber, Integer price,
+                Integer sectionIdx, Integer rowIdx, Integer seatIdx) {
         this.event = event;
+        this.section = section != null ? section : "";
         this.seatRow = seatRow;
         this.seatNumber = seatNumber;
+        this.sectionIdx = sectionIdx;
+        this.rowIdx = rowIdx;
+        this.seatIdx = seatIdx;
         this.price = price;
         this.status = SeatStatus.AVAILABLE;
     }
@@ -94,10 +118,15 @@ public class Seat {
         if (this.status != SeatStatus.TEMPORARILY_RESERVED || this.temporaryReservedAt == null) {
             return false;
         }
-        return LocalDateTime.now().isAfter(this.temporaryReservedAt.plusMinutes(15));
+        return LocalDateTime.now().isAfter(this.temporaryReservedAt.plusMinutes(HoldPolicy.HOLD_MINUTES));
     }
 
     public String getSeatDisplay() {
-        return seatRow + "-" + seatNumber;
+        return formatSeatDisplay(section, seatRow, seatNumber);
+    }
+
+    public static String formatSeatDisplay(String section, String seatRow, String seatNumber) {
+        String display = seatRow + "-" + seatNumber;
+        return section == null || section.isEmpty() ? display : section + " " + display;
     }
 }
\ No newline at end of file
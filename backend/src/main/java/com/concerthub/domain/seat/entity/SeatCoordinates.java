@@ -0,0 +1,83 @@
+package com.concerthub.domain.seat.entity;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 좌석 표시 이름(구역/행/번호)을 정렬용 정수 좌표로 변환
+ * 구역 → 행(길이 우선, Z 다음 AA) → 좌석 번호(숫자 순) 순서로 이벤트 전체에 0부터 번호를 매긴다.
+ * row_idx 는 구역을 포함한 이벤트 전체 행 순서라서 (row_idx, seat_idx) 정렬이 곧 좌석 맵 순서가 된다.
+ */
+public final class SeatCoordinates {
+
+    public record Coordinate(int sectionIdx, int rowIdx, int seatIdx) {
+    }
+
+    private SeatCoordinates() {
+    }
+
+    /**
+     * 좌석 맵 표시 순서 (숫자가 아닌 좌석 번호는 행의 맨 뒤)
+     */
+    public static <T> Comparator<T> displayOrder(Function<T, String> section,
+                                                 Function<T, String> row,
+                                                 Function<T, String> number) {
+        return Comparator.comparing(section)
+                .thenComparingInt((T seat) -> row.apply(seat).length())
+                .thenComparing(row)
+                .thenComparingInt(seat -> parseSeatNumber(number.apply(seat)))
+                .thenComparing(number);
+    }
+
+    /**
+     * 좌석 목록의 좌표 계산 (입력 순서 그대로 반환)
+     */
+    public static <T> List<Coordinate> assign(List<T> seats,
+                                              Function<T, String> section,
+                                              Function<T, String> row,
+                                              Function<T, String> number) {
+        Comparator<T> order = displayOrder(section, row, number);
+        Integer[] sorted = new Integer[seats.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, (a, b) -> order.compare(seats.get(a), seats.get(b)));
+
+        Coordinate[] coordinates = new Coordinate[seats.size()];
+        int sectionIdx = -1;
+        int rowIdx = -1;
+        int seatIdx = 0;
+        String currentSection = null;
+        String currentRow = null;
+
+        for (int index : sorted) {
+            T seat = seats.get(index);
+            String seatSection = section.apply(seat);
+            String seatRow = row.apply(seat);
+
+            if (!seatSection.equals(currentSection)) {
+                sectionIdx++;
+                currentSection = seatSection;
+                currentRow = null;
+            }
+            if (!seatRow.equals(currentRow)) {
+                rowIdx++;
+                seatIdx = 0;
+                currentRow = seatRow;
+            }
+            coordinates[index] = new Coordinate(sectionIdx, rowIdx, seatIdx++);
+        }
+
+        return List.of(coordinates);
+    }
+
+    private static int parseSeatNumber(String seatNumber) {
+        try {
+            return Integer.parseInt(seatNumber);
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.concerthub.domain.seat.event;
+
+import com.concerthub.domain.seat.entity.Seat;
+import com.concerthub.domain.seat.entity.status.SeatStatus;
+
+/**
+ * 좌석 상태 전이 이벤트 (커밋 이후 인메모리 상태 동기화용)
+ */
+public record SeatStatusChangedEvent(
+        Long eventId,
+        Long seatId,
+        SeatStatus previousStatus,
+        SeatStatus currentStatus
+) {
+
+    public static SeatStatusChangedEvent of(Seat seat, SeatStatus previousStatus) {
+        return new SeatStatusChangedEvent(
+                seat.getEvent().getId(),
+                seat.getId(),
+                previousStatus,
+                seat.getStatus()
+        );
+    }
+}
@@ -0,0 +1,126 @@
+package com.concerthub.domain.seat.repository;
+
+import com.concerthub.domain.seat.dto.request.SeatImportRow;
+import com.concerthub.domain.seat.entity.SeatCoordinates;
+import com.concerthub.domain.seat.entity.SeatCoordinates.Coordinate;
+import com.concerthub.domain.seat.entity.status.SeatStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 좌석 대량 쓰기 전용 저장소
+ * IDENTITY 전략에서는 Hibernate 배치 INSERT 가 불가능하므로 JDBC 배치로 저장한다.
+ * (rewriteBatchedStatements 로 드라이버가 다중 행 INSERT 로 묶어 전송)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatBulkRepository {
+
+    private static final String INSERT_SEAT_SQL =
+            "INSERT INTO seats (event_id, section, seat_row, seat_number, section_idx, row_idx, seat_idx, " +
+            "price, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String OPEN_BLOCKED_SEATS_SQL =
+            "UPDATE seats SET status = 'AVAILABLE', updated_at = ? WHERE event_id = ? AND status = 'BLOCKED'";
+
+    private static final String DELETE_EVENT_SEATS_SQL = "DELETE FROM seats WHERE event_id = ?";
+
+    private static final String SELECT_SEAT_LABELS_SQL =
+            "SELECT id, section, seat_row, seat_number FROM seats WHERE event_id = ?";
+
+    private static final String UPDATE_COORDINATE_SQL =
+            "UPDATE seats SET section_idx = ?, row_idx = ?, seat_idx = ? WHERE id = ?";
+
+    private static final String SELECT_EVENTS_WITHOUT_COORDINATES_SQL =
+            "SELECT DISTINCT event_id FROM seats WHERE row_idx IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 좌석 저장 (coordinates 가 null 이면 좌표 없이 저장 후 assignCoordinates 로 채움)
+     */
+    public void insertSeats(Long eventId, List<SeatImportRow> rows, List<Coordinate> coordinates) {
+        insertSeats(eventId, rows, coordinates, SeatStatus.AVAILABLE);
+    }
+
+    /**
+     * 지정한 상태로 좌석 저장 (가져오기 중에는 BLOCKED 로 넣어 완료 전 예약을 막는다)
+     */
+    public void insertSeats(Long eventId, List<SeatImportRow> rows, List<Coordinate> coordinates, SeatStatus status) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SEAT_SQL, indexes(rows.size()), rows.size(), (ps, index) -> {
+            SeatImportRow row = rows.get(index);
+            Coordinate coordinate = coordinates != null ? coordinates.get(index) : null;
+
+            ps.setLong(1, eventId);
+            ps.setString(2, row.section());
+            ps.setString(3, row.row());
+            ps.setString(4, row.number());
+            ps.setObject(5, coordinate != null ? coordinate.sectionIdx() : null, Types.INTEGER);
+            ps.setObject(6, coordinate != null ? coordinate.rowIdx() : null, Types.INTEGER);
+            ps.setObject(7, coordinate != null ? coordinate.seatIdx() : null, Types.INTEGER);
+            ps.setInt(8, row.price());
+            ps.setString(9, status.name());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+    }
+
+    /**
+     * 이벤트 좌석 전체의 좌표 재계산 (표시 이름으로 정렬해 배치 UPDATE, 갱신한 좌석 수 반환)
+     */
+    public int assignCoordinates(Long eventId) {
+        List<SeatLabel> seats = jdbcTemplate.query(SELECT_SEAT_LABELS_SQL, (rs, rowNum) -> new SeatLabel(
+                rs.getLong("id"),
+                rs.getString("section"),
+                rs.getString("seat_row"),
+                rs.getString("seat_number")
+        ), eventId);
+
+        List<Coordinate> coordinates = SeatCoordinates.assign(seats,
+                SeatLabel::section, SeatLabel::seatRow, SeatLabel::seatNumber);
+
+        jdbcTemplate.batchUpdate(UPDATE_COORDINATE_SQL, indexes(seats.size()), seats.size(), (ps, index) -> {
+            Coordinate coordinate = coordinates.get(index);
+            ps.setInt(1, coordinate.sectionIdx());
+            ps.setInt(2, coordinate.rowIdx());
+            ps.setInt(3, coordinate.seatIdx());
+            ps.setLong(4, seats.get(index).id());
+        });
+        return seats.size();
+    }
+
+    /**
+     * 좌표가 비어 있는 좌석이 있는 이벤트 ID
+     */
+    public List<Long> findEventIdsWithoutCoordinates() {
+        return jdbcTemplate.queryForList(SELECT_EVENTS_WITHOUT_COORDINATES_SQL, Long.class);
+    }
+
+    /**
+     * 차단 상태로 가져온 좌석을 예약 가능으로 전환 (전환한 좌석 수 반환)
+     */
+    public int openBlockedSeats(Long eventId) {
+        return jdbcTemplate.update(OPEN_BLOCKED_SEATS_SQL, Timestamp.valueOf(LocalDateTime.now()), eventId);
+    }
+
+    public int deleteEventSeats(Long eventId) {
+        return jdbcTemplate.update(DELETE_EVENT_SEATS_SQL, eventId);
+    }
+
+    private static List<Integer> indexes(int size) {
+        return IntStream.range(0, size).boxed().toList();
+    }
+
+    private record SeatLabel(long id, String section, String seatRow, String seatNumber) {
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,35 +17,89 @@ import java.util.Optional;
 @Repository
 public interface SeatRepository extends JpaRepository<Seat, Long> {
 
-    // 이벤트별 좌석 조회
-    List<Seat> findByEventIdOrderBySeatRowAscSeatNumberAsc(Long eventId);
+    // 이벤트별 좌석 조회 (좌석 맵 순서)
+    List<Seat> findByEventIdOrderByRowIdxAscSeatIdxAsc(Long eventId);
+
+    // 이벤트별 좌석 목록 (프로젝션)
+    @Query("SELECT s.id AS id, s.event.id AS eventId, s.section AS section, s.seatRow AS seatRow, s.seatNumber AS seatNumber, " +
+           "s.price AS price, s.status AS status, s.temporaryReservedAt AS temporaryReservedAt, " +
+           "s.createdAt AS createdAt, s.updatedAt AS updatedAt " +
+           "FROM Seat s WHERE s.event.id = :eventId ORDER BY s.rowIdx ASC, s.seatIdx ASC")
+    List<SeatView> findViewsByEventId(@Param("eventId") Long eventId);
+
+    // 이벤트별 특정 상태 좌석 목록 (프로젝션)
+    @Query("SELECT s.id AS id, s.event.id AS eventId, s.section AS section, s.seatRow AS seatRow, s.seatNumber AS seatNumber, " +
+           "s.price AS price, s.status AS status, s.temporaryReservedAt AS temporaryReservedAt, " +
+           "s.createdAt AS createdAt, s.updatedAt AS updatedAt " +
+           "FROM Seat s WHERE s.event.id = :eventId AND s.status = :status ORDER BY s.rowIdx ASC, s.seatIdx ASC")
+    List<SeatView> findViewsByEventIdAndStatus(@Param("eventId") Long eventId, @Param("status") SeatStatus status);
+
+    // 공연장 배치 템플릿을 이벤트 좌석으로 복제 (DB 안에서 단일 INSERT ... SELECT)
+    @Modifying
+    @Query(value = "INSERT INTO seats (event_id, section, seat_row, seat_number, section_idx, row_idx, seat_idx, " +
+                   "price, status, created_at, updated_at) " +
+                   "SELECT :eventId, s.section, s.seat_row, s.seat_number, s.section_idx, s.row_idx, s.seat_idx, " +
+                   "FLOOR(:basePrice * s.price_rate / 100), 'AVAILABLE', :now, :now " +
+                   "FROM venue_layout_seats s WHERE s.layout_id = :layoutId ORDER BY s.row_idx, s.seat_idx",
+           nativeQuery = true)
+    int insertFromVenueLayout(@Param("eventId") Long eventId,
+                              @Param("layoutId") Long layoutId,
+                              @Param("basePrice") int basePrice,
+                              @Param("now") LocalDateTime now);
+
+    // 이벤트 좌석 존재 여부
+    boolean existsByEventId(Long eventId);
 
     // 이벤트별 특정 상태 좌석 조회
     List<Seat> findByEventIdAndStatus(Long eventId, SeatStatus status);
 
     // 예약 가능한 좌석만 조회
-    List<Seat> findByEventIdAndStatusOrderBySeatRowAscSeatNumberAsc(Long eventId, SeatStatus status);
+    List<Seat> findByEventIdAndStatusOrderByRowIdxAscSeatIdxAsc(Long eventId, SeatStatus status);
 
     // 특정 좌석 조회 (이벤트ID + 행 + 번호)
     Optional<Seat> findByEventIdAndSeatRowAndSeatNumber(Long eventId, String seatRow, String seatNumber);
 
-    // 만료된 임시 예약 좌석 조회
-    @Query("SELECT s FROM Seat s WHERE s.status = :status AND s.temporaryReservedAt < :expiredTime")
-    List<Seat> findExpiredTemporaryReservations(@Param("status") SeatStatus status,
-                                                @Param("expiredTime") LocalDateTime expiredTime);
+    // 예약 없이 임시 선점된 채 만료된 좌석 청크 잠금 조회 [좌석ID, 이벤트ID] (다른 트랜잭션이 잠근 행은 건너뜀)
+    // 대기/확정 예약이 있는 좌석은 예약 만료/확정 경로가 처리하므로 제외
+    @Query(value = "SELECT s.id, s.event_id FROM seats s " +
+                   "WHERE s.status = 'TEMPORARILY_RESERVED' AND s.temporary_reserved_at < :expiredTime " +
+                   "AND NOT EXISTS (SELECT 1 FROM reservations r " +
+                   "WHERE r.seat_id = s.id AND r.status IN ('PENDING', 'CONFIRMED')) " +
+                   "ORDER BY s.id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Object[]> lockExpiredTemporaryReservations(@Param("expiredTime") LocalDateTime expiredTime,
+                                                    @Param("limit") int limit);
+
+    // 지정한 좌석 중 아직 임시 예약 상태인 좌석만 ID 순으로 잠금 조회
+    @Query(value = "SELECT s.id FROM seats s " +
+                   "WHERE s.id IN (:ids) AND s.status = 'TEMPORARILY_RESERVED' " +
+                   "ORDER BY s.id FOR UPDATE", nativeQuery = true)
+    List<Long> lockTemporarilyReservedSeatIds(@Param("ids") List<Long> ids);
+
+    // 임시 예약 좌석 일괄 해제 (그 사이 확정/해제된 좌석은 건드리지 않음)
+    @Modifying
+    @Query("UPDATE Seat s SET s.status = com.concerthub.domain.seat.entity.status.SeatStatus.AVAILABLE, " +
+           "s.temporaryReservedAt = NULL, s.updatedAt = :now " +
+           "WHERE s.id IN :ids AND s.status = com.concerthub.domain.seat.entity.status.SeatStatus.TEMPORARILY_RESERVED")
+    int releaseTemporaryReservations(@Param("ids") List<Long> ids,
+                                     @Param("now") LocalDateTime now);
 
     // 이벤트별 상태별 좌석 수 카운트
     @Query("SELECT s.status, COUNT(s) FROM Seat s WHERE s.event.id = :eventId GROUP BY s.status")
     List<Object[]> countSeatsByStatus(@Param("eventId") Long eventId);
 
     // 특정 행의 좌석들 조회
-    List<Seat> findByEventIdAndSeatRowOrderBySeatNumberAsc(Long eventId, String seatRow);
+    List<Seat> findByEventIdAndSeatRowOrderBySeatIdxAsc(Long eventId, String seatRow);
 
     // 비관적 락으로 좌석 조회 (동시성 제어용)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT s FROM Seat s WHERE s.id = :id")
     Optional<Seat> findByIdWithLock(@Param("id") Long id);
 
+    // 여러 좌석을 ID 오름차순으로 한 번에 비관적 락 (락 획득 순서 고정으로 데드락 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Seat s WHERE s.id IN :ids ORDER BY s.id ASC")
+    List<Seat> findAllByIdInWithLock(@Param("ids") List<Long> ids);
+
     // 이벤트와 좌석 정보로 비관적 락 조회
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT s FROM Seat s WHERE s.event.id = :eventId AND s.seatRow = :seatRow AND s.seatNumber = :seatNumber")
@@ -0,0 +1,44 @@
+package com.concerthub.domain.seat.repository;
+
+import com.concerthub.domain.seat.entity.Seat;
+import com.concerthub.domain.seat.entity.status.SeatStatus;
+import com.concerthub.global.policy.HoldPolicy;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좌석 목록 조회용 프로젝션 (엔티티 관리/지연 로딩 없이 필요한 컬럼만 조회)
+ */
+public interface SeatView {
+
+    Long getId();
+
+    Long getEventId();
+
+    String getSection();
+
+    String getSeatRow();
+
+    String getSeatNumber();
+
+    Integer getPrice();
+
+    SeatStatus getStatus();
+
+    LocalDateTime getTemporaryReservedAt();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    default String getSeatDisplay() {
+        return Seat.formatSeatDisplay(getSection(), getSeatRow(), getSeatNumber());
+    }
+
+    default boolean isTemporaryReservationExpired() {
+        if (getStatus() != SeatStatus.TEMPORARILY_RESERVED || getTemporaryReservedAt() == null) {
+            return false;
+        }
+        return LocalDateTime.now().isAfter(getTemporaryReservedAt().plusMinutes(HoldPolicy.HOLD_MINUTES));
+    }
+}
@@ -0,0 +1,48 @@
+package com.concerthub.domain.seat.service;
+
+import com.concerthub.domain.seat.repository.SeatBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 좌표 컬럼 추가 이전에 생성된 좌석의 좌표 채우기
+ * 좌표가 빈 좌석이 있는 이벤트만 이벤트 단위 트랜잭션으로 다시 계산하므로 여러 번 실행해도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatCoordinateBackfill {
+
+    private final SeatBulkRepository seatBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 좌석 상태 엔진 초기화보다 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        List<Long> eventIds = seatBulkRepository.findEventIdsWithoutCoordinates();
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        int updatedSeats = 0;
+        for (Long eventId : eventIds) {
+            try {
+                Integer updated = transactionTemplate.execute(status -> seatBulkRepository.assignCoordinates(eventId));
+                updatedSeats += updated != null ? updated : 0;
+            } catch (Exception e) {
+                log.error("좌석 좌표 채우기 중 오류 발생: 이벤트ID={}", eventId, e);
+            }
+        }
+
+        log.info("좌석 좌표 채우기 완료: 이벤트 {}건, 좌석 {}건", eventIds.size(), updatedSeats);
+    }
+}
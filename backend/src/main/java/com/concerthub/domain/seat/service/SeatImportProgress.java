@@ -0,0 +1,59 @@
+package com.concerthub.domain.seat.service;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 좌석 가져오기 진행 상황 (가져오는 스레드만 갱신하고 조회는 다른 요청에서 수행)
+ */
+@Getter
+public class SeatImportProgress {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final Long eventId;
+    private final LocalDateTime startedAt;
+    private volatile Status status = Status.RUNNING;
+    private volatile int importedSeats;
+    private volatile int committedChunks;
+    private volatile String errorMessage;
+    private volatile LocalDateTime finishedAt;
+
+    SeatImportProgress(Long eventId) {
+        this.eventId = eventId;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    boolean isFinishedBefore(LocalDateTime time) {
+        return finishedAt != null && finishedAt.isBefore(time);
+    }
+
+    void chunkCommitted(int seats) {
+        importedSeats += seats;
+        committedChunks++;
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        errorMessage = message;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    public long getElapsedMillis() {
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        return Duration.between(startedAt, end).toMillis();
+    }
+}
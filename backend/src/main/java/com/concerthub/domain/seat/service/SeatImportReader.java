@@ -0,0 +1,140 @@
+package com.concerthub.domain.seat.service;
+
+import com.concerthub.domain.seat.dto.request.SeatImportRow;
+import com.concerthub.global.exception.BusinessException;
+import com.concerthub.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 좌석 가져오기 입력을 한 줄씩 읽는 스트리밍 리더 (전체 파일을 메모리에 올리지 않음)
+ */
+abstract class SeatImportReader implements Closeable {
+
+    private int lineNumber;
+
+    /**
+     * 다음 좌석 (입력이 끝나면 null)
+     */
+    SeatImportRow next() throws IOException {
+        SeatImportRow row = read();
+        if (row != null) {
+            lineNumber++;
+        }
+        return row;
+    }
+
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    protected abstract SeatImportRow read() throws IOException;
+
+    static SeatImportReader csv(InputStream inputStream) {
+        return new CsvReader(inputStream);
+    }
+
+    static SeatImportReader json(InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        return new JsonReader(inputStream, objectMapper);
+    }
+
+    /**
+     * section,row,number,price (첫 줄의 price 가 숫자가 아니면 헤더로 보고 건너뜀)
+     */
+    private static class CsvReader extends SeatImportReader {
+
+        private final BufferedReader reader;
+        private boolean firstLine = true;
+
+        CsvReader(InputStream inputStream) {
+            this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        protected SeatImportRow read() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                String[] columns = line.split(",", -1);
+                if (columns.length != 4) {
+                    throw invalid("열은 section,row,number,price 4개여야 합니다: " + line);
+                }
+
+                boolean header = firstLine && !isInteger(columns[3].trim());
+                firstLine = false;
+                if (header) {
+                    continue;
+                }
+                if (!isInteger(columns[3].trim())) {
+                    throw invalid("가격은 정수여야 합니다: " + line);
+                }
+
+                return new SeatImportRow(columns[0].trim(), columns[1].trim(), columns[2].trim(),
+                        Integer.valueOf(columns[3].trim()));
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        private BusinessException invalid(String message) {
+            return new BusinessException(ErrorCode.INVALID_SEAT_IMPORT,
+                    String.format("%d번째 좌석: %s", getLineNumber() + 1, message));
+        }
+
+        private static boolean isInteger(String value) {
+            try {
+                Integer.parseInt(value);
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * [{"section": "...", "row": "...", "number": "...", "price": 0}, ...]
+     */
+    private static class JsonReader extends SeatImportReader {
+
+        private final JsonParser parser;
+        private final ObjectMapper objectMapper;
+
+        JsonReader(InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+            this.parser = objectMapper.getFactory().createParser(inputStream);
+            this.objectMapper = objectMapper;
+
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BusinessException(ErrorCode.INVALID_SEAT_IMPORT, "좌석 목록은 JSON 배열이어야 합니다.");
+            }
+        }
+
+        @Override
+        protected SeatImportRow read() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            return objectMapper.readValue(parser, SeatImportRow.class);
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.concerthub.domain.seat.service;
+
+import com.concerthub.domain.event.service.EventService;
+import com.concerthub.domain.seat.dto.request.SeatImportRow;
+import com.concerthub.domain.seat.engine.SeatStateEngine;
+import com.concerthub.domain.seat.entity.status.SeatStatus;
+import com.concerthub.domain.seat.repository.SeatBulkRepository;
+import com.concerthub.domain.seat.repository.SeatRepository;
+import com.concerthub.global.exception.BusinessException;
+import com.concerthub.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공연장 좌석 대량 가져오기
+ * 입력을 스트리밍으로 읽어 청크 단위 JDBC 배치 INSERT 후 청크마다 커밋한다.
+ * 좌석은 BLOCKED 로 넣고 좌석 상태 엔진 적재도 멈춰 두었다가, 모든 청크가 커밋된 뒤 한 번에 예약 가능으로 연다.
+ * 중간에 실패하면 이미 커밋된 청크를 지워 이벤트를 좌석이 없는 상태로 되돌린다.
+ * (청크마다 커밋해야 하므로 클래스 전체 트랜잭션을 걸지 않는다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatImportService {
+
+    public enum Format {
+        CSV, JSON
+    }
+
+    private static final int MAX_SECTION_LENGTH = 20;
+    private static final int MAX_ROW_LENGTH = 5;
+    private static final int MAX_NUMBER_LENGTH = 10;
+    private static final long RETENTION_MINUTES = 10; // 끝난 가져오기 진행 상황 보관 시간
+
+    private final EventService eventService;
+    private final SeatRepository seatRepository;
+    private final SeatBulkRepository seatBulkRepository;
+    private final SeatStateEngine seatStateEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, SeatImportProgress> imports = new ConcurrentHashMap<>();
+
+    @Value("${seat-import.chunk-size:5000}")
+    private int chunkSize;
+
+    /**
+     * 좌석이 없는 이벤트에 좌석 배치 가져오기 (요청 스레드에서 동기 처리, 진행 상황은 getProgress 로 조회)
+     */
+    public SeatImportProgress importSeats(Long eventId, InputStream inputStream, Format format) {
+        eventService.getEventSnapshot(eventId); // 이벤트 존재 확인
+        if (seatRepository.existsByEventId(eventId)) {
+            throw new BusinessException(ErrorCode.SEATS_ALREADY_EXIST);
+        }
+
+        SeatImportProgress progress = start(eventId);
+        seatStateEngine.suspend(eventId);
+        log.info("좌석 가져오기 시작: 이벤트ID={}, 형식={}", eventId, format);
+
+        try (SeatImportReader reader = format == Format.CSV
+                ? SeatImportReader.csv(inputStream)
+                : SeatImportReader.json(inputStream, objectMapper)) {
+
+            List<SeatImportRow> chunk = new ArrayList<>(chunkSize);
+            SeatImportRow row;
+            while ((row = reader.next()) != null) {
+                chunk.add(validate(row, reader.getLineNumber()));
+                if (chunk.size() == chunkSize) {
+                    commitChunk(eventId, chunk, progress);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                commitChunk(eventId, chunk, progress);
+            }
+
+            // 입력 순서와 무관하게 전체 좌석이 모인 뒤에 좌표를 매기고 같은 트랜잭션에서 예약 가능으로 연다
+            transactionTemplate.executeWithoutResult(status -> {
+                seatBulkRepository.assignCoordinates(eventId);
+                seatBulkRepository.openBlockedSeats(eventId);
+            });
+        } catch (BusinessException e) {
+            rollbackImport(eventId, progress, e.getMessage());
+            throw e;
+        } catch (JsonProcessingException e) {
+            rollbackImport(eventId, progress, e.getOriginalMessage());
+            throw new BusinessException(ErrorCode.INVALID_SEAT_IMPORT, e.getOriginalMessage());
+        } catch (DataIntegrityViolationException e) {
+            rollbackImport(eventId, progress, "중복된 좌석이 있습니다.");
+            throw new BusinessException(ErrorCode.INVALID_SEAT_IMPORT, "중복된 좌석이 있습니다.");
+        } catch (IOException | RuntimeException e) {
+            log.error("좌석 가져오기 중 오류 발생: 이벤트ID={}", eventId, e);
+            rollbackImport(eventId, progress, e.getMessage());
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        if (progress.getImportedSeats() == 0) {
+            seatStateEngine.resume(eventId);
+            progress.fail("가져올 좌석이 없습니다.");
+            throw new BusinessException(ErrorCode.INVALID_SEAT_IMPORT, "가져올 좌석이 없습니다.");
+        }
+
+        seatStateEngine.resume(eventId);
+        progress.complete();
+        log.info("좌석 가져오기 완료: 이벤트ID={}, 좌석 수={}, 소요={}ms",
+                eventId, progress.getImportedSeats(), progress.getElapsedMillis());
+        return progress;
+    }
+
+    public SeatImportProgress getProgress(Long eventId) {
+        SeatImportProgress progress = imports.get(eventId);
+        if (progress == null) {
+            throw new BusinessException(ErrorCode.SEAT_IMPORT_NOT_FOUND);
+        }
+        return progress;
+    }
+
+    /**
+     * 끝난 지 보관 시간이 지난 가져오기 진행 상황 정리
+     */
+    public void evictFinishedImports() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(RETENTION_MINUTES);
+        imports.values().removeIf(progress -> progress.isFinishedBefore(threshold));
+    }
+
+    private SeatImportProgress start(Long eventId) {
+        SeatImportProgress progress = new SeatImportProgress(eventId);
+        SeatImportProgress current = imports.compute(eventId, (id, previous) ->
+                previous != null && previous.isRunning() ? previous : progress);
+        if (current != progress) {
+            throw new BusinessException(ErrorCode.SEAT_IMPORT_IN_PROGRESS);
+        }
+        return progress;
+    }
+
+    private void commitChunk(Long eventId, List<SeatImportRow> chunk, SeatImportProgress progress) {
+        transactionTemplate.executeWithoutResult(status ->
+                seatBulkRepository.insertSeats(eventId, chunk, null, SeatStatus.BLOCKED));
+        progress.chunkCommitted(chunk.size());
+        log.debug("좌석 가져오기 청크 커밋: 이벤트ID={}, 누적 좌석 수={}", eventId, progress.getImportedSeats());
+    }
+
+    // 정리 실패가 원래 오류를 가리지 않도록 기록만 하고 넘어간다
+    private void rollbackImport(Long eventId, SeatImportProgress progress, String message) {
+        try {
+            if (progress.getImportedSeats() > 0) {
+                transactionTemplate.executeWithoutResult(status -> seatBulkRepository.deleteEventSeats(eventId));
+            }
+        } catch (RuntimeException e) {
+            log.error("좌석 가져오기 정리 실패 (수동 삭제 필요): 이벤트ID={}, 커밋된 좌석 수={}",
+                    eventId, progress.getImportedSeats(), e);
+        } finally {
+            seatStateEngine.resume(eventId);
+            progress.fail(message);
+        }
+    }
+
+    private SeatImportRow validate(SeatImportRow row, int lineNumber) {
+        String section = row.section() != null ? row.section().trim() : "";
+        String seatRow = row.row() != null ? row.row().trim() : "";
+        String number = row.number() != null ? row.number().trim() : "";
+
+        if (seatRow.isEmpty() || seatRow.length() > MAX_ROW_LENGTH) {
+            throw invalid(lineNumber, "행은 1~" + MAX_ROW_LENGTH + "자여야 합니다.");
+        }
+        if (number.isEmpty() || number.length() > MAX_NUMBER_LENGTH) {
+            throw invalid(lineNumber, "좌석 번호는 1~" + MAX_NUMBER_LENGTH + "자여야 합니다.");
+        }
+        if (section.length() > MAX_SECTION_LENGTH) {
+            throw invalid(lineNumber, "구역은 " + MAX_SECTION_LENGTH + "자를 초과할 수 없습니다.");
+        }
+        if (row.price() == null || row.price() < 0) {
+            throw invalid(lineNumber, "가격은 0 이상이어야 합니다.");
+        }
+        return new SeatImportRow(section, seatRow, number, row.price());
+    }
+
+    private BusinessException invalid(int lineNumber, String message) {
+        return new BusinessException(ErrorCode.INVALID_SEAT_IMPORT,
+                String.format("%d번째 좌석: %s", lineNumber, message));
+    }
+}
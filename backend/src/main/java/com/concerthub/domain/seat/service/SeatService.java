@@ -1,19 +1,38 @@
 package com.concerthub.domain.seat.service;
 
-import com.concerthub.domain.event.entity.Event;
 import com.concerthub.domain.event.service.EventService;
+import com.concerthub.domain.seat.dto.request.SeatImportRow;
+import com.concerthub.domain.seat.dto.response.SeatLayoutResponse;
+import com.concerthub.domain.seat.dto.response.SeatMapDeltaResponse;
+import com.concerthub.domain.seat.dto.response.SeatResponse;
+import com.concerthub.domain.seat.dto.response.SeatSummaryResponse;
+import com.concerthub.domain.seat.engine.EventSeatState;
+import com.concerthub.domain.seat.engine.HoldResult;
+import com.concerthub.domain.seat.engine.SeatLayout;
+import com.concerthub.domain.seat.engine.SeatStateEngine;
 import com.concerthub.domain.seat.entity.Seat;
+import com.concerthub.domain.seat.entity.SeatCoordinates.Coordinate;
 import com.concerthub.domain.seat.entity.status.SeatStatus;
+import com.concerthub.domain.seat.event.SeatStatusChangedEvent;
+import com.concerthub.domain.seat.repository.SeatBulkRepository;
 import com.concerthub.domain.seat.repository.SeatRepository;
+import com.concerthub.domain.seat.repository.SeatView;
 import com.concerthub.global.exception.BusinessException;
 import com.concerthub.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -21,43 +40,134 @@ import java.util.List;
 public class SeatService {
 
     private final SeatRepository seatRepository;
+    private final SeatBulkRepository seatBulkRepository;
     private final EventService eventService;
+    private final SeatStateEngine seatStateEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public List<Seat> createSeats(Long eventId, int totalRows, int seatsPerRow, Integer basePrice) {
-        Event event = eventService.getEvent(eventId);
+        eventService.getEventSnapshot(eventId); // 이벤트 존재 확인
 
-        List<Seat> seats = new ArrayList<>();
+        List<SeatImportRow> rows = new ArrayList<>(totalRows * seatsPerRow);
+        List<Coordinate> coordinates = new ArrayList<>(totalRows * seatsPerRow);
 
         for (int row = 1; row <= totalRows; row++) {
-            String seatRow = String.valueOf((char) ('A' + row - 1)); // A, B, C...
+            String seatRow = rowLabel(row); // A, B, ..., Z, AA, AB...
+
+            // 좌석별 가격 차등 (앞자리 더 비쌈)
+            Integer seatPrice = calculateSeatPrice(basePrice, row, totalRows);
 
             for (int seatNum = 1; seatNum <= seatsPerRow; seatNum++) {
-                // 좌석별 가격 차등 (앞자리 더 비쌈)
-                Integer seatPrice = calculateSeatPrice(basePrice, row, totalRows);
+                rows.add(new SeatImportRow("", seatRow, String.valueOf(seatNum), seatPrice));
+                coordinates.add(new Coordinate(0, row - 1, seatNum - 1)); // 행 이름이 길이 우선 순서라 그대로 좌표가 됨
+            }
+        }
+
+        // IDENTITY 전략이라 saveAll 은 좌석마다 INSERT 를 보내므로 JDBC 배치로 저장 후 다시 조회
+        seatBulkRepository.insertSeats(eventId, rows, coordinates);
+        evictSeatStateAfterCommit(eventId);
+        return seatRepository.findByEventIdOrderByRowIdxAscSeatIdxAsc(eventId);
+    }
+
+    public List<SeatView> getEventSeats(Long eventId) {
+        eventService.getEventSnapshot(eventId); // 이벤트 존재 확인
+        return seatRepository.findViewsByEventId(eventId);
+    }
+
+    /**
+     * 현재 좌석 맵 버전 (이벤트 스냅샷 캐시와 메모리만 조회, 트랜잭션 없이)
+     * 없는 이벤트 ID 로 변경 기록이 생기지 않도록 존재 확인을 먼저 한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getSeatMapVersion(Long eventId) {
+        eventService.getEventSnapshot(eventId); // 이벤트 존재 확인
+        return seatStateEngine.getSeatMapVersion(eventId);
+    }
 
-                Seat seat = Seat.builder()
-                        .event(event)
-                        .seatRow(seatRow)
-                        .seatNumber(String.valueOf(seatNum))
-                        .price(seatPrice)
-                        .build();
+    /**
+     * sinceVersion 이후 변경된 좌석만 반환 (변경 기록에서 밀려난 버전이면 전체 스냅샷)
+     * 버전을 먼저 읽고 조회하므로, 조회 도중 커밋된 변경은 다음 요청에 다시 포함될 수 있다.
+     */
+    public SeatMapDeltaResponse getSeatMapSince(Long eventId, long sinceVersion) {
+        long version = seatStateEngine.getSeatMapVersion(eventId);
+        return seatStateEngine.getChangesSince(eventId, sinceVersion)
+                .map(changes -> SeatMapDeltaResponse.ofChanges(eventId, version, changes))
+                .orElseGet(() -> SeatMapDeltaResponse.ofSnapshot(eventId, version,
+                        getEventSeats(eventId).stream()
+                                .map(SeatResponse::from)
+                                .toList()));
+    }
+
+    /**
+     * 좌석 현황 요약 (좌석 상태 엔진의 상태별 카운터에서 O(1) 조회)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public SeatSummaryResponse getSeatSummary(Long eventId) {
+        EventSeatState state = seatStateEngine.getState(eventId);
+        if (state == null) {
+            eventService.getEventSnapshot(eventId); // 이벤트 존재 확인
+            return SeatSummaryResponse.of(eventId, Map.of(), 0, 0);
+        }
+
+        Map<String, Integer> seatCounts = new HashMap<>();
+        for (SeatStatus status : SeatStatus.values()) {
+            seatCounts.put(status.name(), state.countOf(status));
+        }
+        return SeatSummaryResponse.of(eventId, seatCounts, state.getMinPrice(), state.getMaxPrice());
+    }
+
+    /**
+     * 메모리에 적재된 이벤트의 상태별 좌석 수를 GROUP BY 집계와 대사 (재적재한 이벤트 수 반환)
+     * 이벤트 전체를 한 스냅샷으로 읽으면 뒤쪽 이벤트일수록 메모리와 시점이 벌어지므로,
+     * 트랜잭션 없이 이벤트마다 집계 쿼리 하나씩 최신 커밋을 읽고, 그 사이 좌석 맵 버전이 바뀐 이벤트는 건너뛴다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reconcileSeatSummaries() {
+        int reloaded = 0;
+        for (Long eventId : seatStateEngine.getLoadedEventIds()) {
+            long version = seatStateEngine.getSeatMapVersion(eventId);
+            Map<SeatStatus, Integer> committedCounts = new EnumMap<>(SeatStatus.class);
+            for (Object[] row : seatRepository.countSeatsByStatus(eventId)) {
+                committedCounts.put((SeatStatus) row[0], ((Long) row[1]).intValue());
+            }
 
-                seats.add(seat);
+            if (seatStateEngine.reconcileCounts(eventId, version, committedCounts)) {
+                reloaded++;
             }
         }
+        return reloaded;
+    }
+
+    public List<SeatView> getAvailableSeats(Long eventId) {
+        eventService.getEventSnapshot(eventId); // 이벤트 존재 확인
+        return seatRepository.findViewsByEventIdAndStatus(eventId, SeatStatus.AVAILABLE);
+    }
 
-        return seatRepository.saveAll(seats);
+    /**
+     * 정적 좌석 배치 (좌석 상태 엔진의 이벤트 스냅샷에서 생성, 좌석 구성이 바뀌기 전까지 재사용)
+     */
+    public SeatLayoutResponse getSeatLayout(Long eventId) {
+        eventService.getEventSnapshot(eventId); // 이벤트 존재 확인
+        SeatLayout layout = seatStateEngine.getLayout(eventId);
+        return layout == null ? SeatLayoutResponse.empty(eventId) : SeatLayoutResponse.from(eventId, layout);
     }
 
-    public List<Seat> getEventSeats(Long eventId) {
-        eventService.getEvent(eventId); // 이벤트 존재 확인
-        return seatRepository.findByEventIdOrderBySeatRowAscSeatNumberAsc(eventId);
+    /**
+     * 상태 조회용 좌석 배치 (버전과 좌석 수만 쓰므로 응답 DTO 로 변환하지 않음, 좌석이 없으면 EMPTY)
+     */
+    public SeatLayout getSeatLayoutSnapshot(Long eventId) {
+        eventService.getEventSnapshot(eventId); // 이벤트 존재 확인
+        SeatLayout layout = seatStateEngine.getLayout(eventId);
+        return layout == null ? SeatLayout.EMPTY : layout;
     }
 
-    public List<Seat> getAvailableSeats(Long eventId) {
-        eventService.getEvent(eventId); // 이벤트 존재 확인
-        return seatRepository.findByEventIdAndStatusOrderBySeatRowAscSeatNumberAsc(eventId, SeatStatus.AVAILABLE);
+    /**
+     * 좌석당 2비트로 압축한 좌석 상태 (좌석 배치의 서수 순서)
+     */
+    public byte[] getPackedSeatStatuses(Long eventId) {
+        eventService.getEventSnapshot(eventId); // 이벤트 존재 확인
+        return seatStateEngine.getPackedStatuses(eventId);
     }
 
     public Seat getSeat(Long seatId) {
@@ -73,6 +183,13 @@ public class SeatService {
     @Transactional
     public Seat temporaryReserveSeat(Long seatId) {
         Seat seat = getSeat(seatId);
+        SeatStatus previousStatus = seat.getStatus();
+
+        // 엔진 사용 시 예약 경로와 동일하게 인메모리 선점을 먼저 거친다
+        if (seatStateEngine.isEnabled()
+                && seatStateEngine.holdWithinTransaction(seat.getEvent().getId(), seatId) == HoldResult.UNAVAILABLE) {
+            throw new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE);
+        }
 
         try {
             seat.temporaryReserve();
@@ -80,20 +197,22 @@ public class SeatService {
             throw new BusinessException(ErrorCode.SEAT_NOT_AVAILABLE, e.getMessage());
         }
 
+        eventPublisher.publishEvent(SeatStatusChangedEvent.of(seat, previousStatus));
         return seat;
     }
 
     @Transactional
     public Seat confirmReservation(Long seatId) {
         Seat seat = getSeat(seatId);
+        SeatStatus previousStatus = seat.getStatus();
 
         try {
             seat.reserve();
-            seat.getEvent().decreaseAvailableSeats();
         } catch (IllegalStateException e) {
             throw new BusinessException(ErrorCode.INVALID_SEAT_OPERATION, e.getMessage());
         }
 
+        eventPublisher.publishEvent(SeatStatusChangedEvent.of(seat, previousStatus));
         return seat;
     }
 
@@ -101,24 +220,58 @@ public class SeatService {
     public Seat cancelReservation(Long seatId) {
         Seat seat = getSeat(seatId);
 
-        boolean wasReserved = seat.getStatus() == SeatStatus.RESERVED;
+        SeatStatus previousStatus = seat.getStatus();
         seat.cancelReservation();
 
-        // 확정 예약이었다면 이벤트의 available 좌석 수 증가
-        if (wasReserved) {
-            seat.getEvent().increaseAvailableSeats();
-        }
+        // 확정 예약이었다면 커밋 후 AvailableSeatCounter 가 잔여석 증가 반영
+        eventPublisher.publishEvent(SeatStatusChangedEvent.of(seat, previousStatus));
 
         return seat;
     }
 
+    /**
+     * 만료된 임시 예약 좌석 한 청크를 집합 단위 UPDATE 로 해제 (처리 건수 반환)
+     */
     @Transactional
-    public void cleanupExpiredTemporaryReservations() {
-        LocalDateTime expiredTime = LocalDateTime.now().minusMinutes(15);
-        List<Seat> expiredSeats = seatRepository.findExpiredTemporaryReservations(
-                SeatStatus.TEMPORARILY_RESERVED, expiredTime);
+    public int releaseExpiredTemporaryReservationChunk(LocalDateTime expiredTime, int chunkSize) {
+        List<Object[]> rows = seatRepository.lockExpiredTemporaryReservations(expiredTime, chunkSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> seatIds = rows.stream()
+                .map(row -> ((Number) row[0]).longValue())
+                .toList();
+        seatRepository.releaseTemporaryReservations(seatIds, LocalDateTime.now());
 
-        expiredSeats.forEach(Seat::cancelReservation);
+        for (Object[] row : rows) {
+            eventPublisher.publishEvent(new SeatStatusChangedEvent(
+                    ((Number) row[1]).longValue(),
+                    ((Number) row[0]).longValue(),
+                    SeatStatus.TEMPORARILY_RESERVED,
+                    SeatStatus.AVAILABLE
+            ));
+        }
+
+        return seatIds.size();
+    }
+
+    private void evictSeatStateAfterCommit(Long eventId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seatStateEngine.evict(eventId);
+            }
+        });
+    }
+
+    // 1 → A, 26 → Z, 27 → AA
+    private static String rowLabel(int row) {
+        StringBuilder label = new StringBuilder();
+        for (int n = row; n > 0; n = (n - 1) / 26) {
+            label.insert(0, (char) ('A' + (n - 1) % 26));
+        }
+        return label.toString();
     }
 
     private Integer calculateSeatPrice(Integer basePrice, int row, int totalRows) {
@@ -0,0 +1,222 @@
+package com.concerthub.domain.seat.service;
+
+import com.concerthub.domain.event.service.EventService;
+import com.concerthub.domain.seat.dto.response.SeatMapDeltaResponse;
+import com.concerthub.domain.seat.engine.SeatChange;
+import com.concerthub.domain.seat.engine.SeatChangeListener;
+import com.concerthub.domain.seat.engine.SeatStateEngine;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 좌석 상태 변경 실시간 스트림 (SSE)
+ * 커밋된 변경 한 건을 한 번만 직렬화해 이벤트의 모든 구독자 버퍼에 넣고,
+ * 실제 전송은 전용 스레드 풀에서 구독자별로 한 작업씩 처리한다.
+ * 버퍼가 넘친 느린 구독자에게는 resync 를 보내 좌석 맵을 다시 받게 한다.
+ *
+ * 메시지 (id = 좌석 맵 버전, 재연결 시 Last-Event-ID 로 이어 받기)
+ * - init   : {"version": V} 구독 시작 시점 버전
+ * - seat   : {"seatId", "status", "version"} 좌석 상태 변경
+ * - resync : {"version": V} 변경분 유실, GET /seats 로 다시 조회 필요
+ */
+@Slf4j
+@Service
+public class SeatStreamService implements SeatChangeListener {
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT =
+            SseEmitter.event().comment("heartbeat").build();
+
+    private final EventService eventService;
+    private final SeatStateEngine seatStateEngine;
+    private final ObjectMapper objectMapper;
+    private final Executor seatStreamExecutor;
+
+    private final Map<Long, Set<SeatStreamSubscriber>> subscribers = new ConcurrentHashMap<>();
+
+    @Value("${seat-stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${seat-stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    public SeatStreamService(EventService eventService,
+                             SeatStateEngine seatStateEngine,
+                             ObjectMapper objectMapper,
+                             @Qualifier("seatStreamExecutor") Executor seatStreamExecutor) {
+        this.eventService = eventService;
+        this.seatStateEngine = seatStateEngine;
+        this.objectMapper = objectMapper;
+        this.seatStreamExecutor = seatStreamExecutor;
+    }
+
+    /**
+     * 이벤트 좌석 스트림 구독 (lastEventId 가 있으면 그 이후 변경분부터 이어서 전송)
+     */
+    public SseEmitter subscribe(Long eventId, Long lastEventId) {
+        eventService.getEventSnapshot(eventId); // 이벤트 존재 확인
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        SeatStreamSubscriber subscriber = new SeatStreamSubscriber(eventId, emitter, bufferSize);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        // 등록 후 버전을 읽어 등록 시점 이후 변경은 빠지지 않게 한다 (중복은 클라이언트에서 버전으로 무시)
+        subscribers.compute(eventId, (id, eventSubscribers) -> {
+            Set<SeatStreamSubscriber> current = eventSubscribers != null ? eventSubscribers : ConcurrentHashMap.newKeySet();
+            current.add(subscriber);
+            return current;
+        });
+
+        long version = seatStateEngine.getSeatMapVersion(eventId);
+        if (lastEventId == null) {
+            subscriber.offer(versionMessage("init", version));
+        } else {
+            Optional<List<SeatChange>> missed = seatStateEngine.getChangesSince(eventId, lastEventId);
+            if (missed.isPresent() && missed.get().size() < bufferSize) {
+                missed.get().forEach(change -> subscriber.offer(changeMessage(change)));
+            } else {
+                subscriber.resync(versionMessage("resync", version));
+            }
+        }
+        dispatch(subscriber);
+
+        log.debug("좌석 스트림 구독: 이벤트ID={}, 구독자 수={}", eventId, getSubscriberCount(eventId));
+        return emitter;
+    }
+
+    @Override
+    public void onSeatChanged(Long eventId, SeatChange change) {
+        Set<SeatStreamSubscriber> eventSubscribers = subscribers.get(eventId);
+        if (eventSubscribers == null || eventSubscribers.isEmpty()) {
+            return;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> message = changeMessage(change);
+        Set<ResponseBodyEmitter.DataWithMediaType> resyncMessage = null;
+
+        for (SeatStreamSubscriber subscriber : eventSubscribers) {
+            if (!subscriber.offer(message)) {
+                if (resyncMessage == null) {
+                    resyncMessage = versionMessage("resync", change.version());
+                }
+                subscriber.resync(resyncMessage);
+            }
+            dispatch(subscriber);
+        }
+    }
+
+    @Override
+    public void onSeatMapReset(Long eventId, long version) {
+        Set<SeatStreamSubscriber> eventSubscribers = subscribers.get(eventId);
+        if (eventSubscribers == null) {
+            return;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> resyncMessage = versionMessage("resync", version);
+        for (SeatStreamSubscriber subscriber : eventSubscribers) {
+            subscriber.resync(resyncMessage);
+            dispatch(subscriber);
+        }
+    }
+
+    /**
+     * 연결 유지용 하트비트 (버퍼가 가득 찬 구독자는 이미 전송 대기 중이므로 건너뜀)
+     */
+    public void sendHeartbeats() {
+        for (Set<SeatStreamSubscriber> eventSubscribers : subscribers.values()) {
+            for (SeatStreamSubscriber subscriber : eventSubscribers) {
+                if (subscriber.offer(HEARTBEAT)) {
+                    dispatch(subscriber);
+                }
+            }
+        }
+    }
+
+    public int getSubscriberCount(Long eventId) {
+        Set<SeatStreamSubscriber> eventSubscribers = subscribers.get(eventId);
+        return eventSubscribers == null ? 0 : eventSubscribers.size();
+    }
+
+    private void dispatch(SeatStreamSubscriber subscriber) {
+        if (!subscriber.startDraining()) {
+            return;
+        }
+
+        try {
+            seatStreamExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            // 다음 메시지 적재 시 다시 시도
+            subscriber.stopDraining();
+            log.warn("좌석 스트림 전송 대기열 포화: 이벤트ID={}", subscriber.getEventId());
+        }
+    }
+
+    private void drain(SeatStreamSubscriber subscriber) {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> message;
+            while ((message = subscriber.poll()) != null) {
+                subscriber.getEmitter().send(message);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("좌석 스트림 전송 실패로 구독 해제: 이벤트ID={}", subscriber.getEventId());
+            subscriber.getEmitter().completeWithError(e);
+            unsubscribe(subscriber);
+        } finally {
+            subscriber.stopDraining();
+        }
+
+        // 작업 종료 직전에 들어온 메시지 처리
+        if (subscriber.hasPending() && !subscriber.isClosed()) {
+            dispatch(subscriber);
+        }
+    }
+
+    private void unsubscribe(SeatStreamSubscriber subscriber) {
+        subscriber.close();
+        subscribers.computeIfPresent(subscriber.getEventId(), (id, eventSubscribers) -> {
+            eventSubscribers.remove(subscriber);
+            return eventSubscribers.isEmpty() ? null : eventSubscribers;
+        });
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> changeMessage(SeatChange change) {
+        return SseEmitter.event()
+                .id(String.valueOf(change.version()))
+                .name("seat")
+                .data(toJson(SeatMapDeltaResponse.Change.from(change)))
+                .build();
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> versionMessage(String name, long version) {
+        return SseEmitter.event()
+                .id(String.valueOf(version))
+                .name(name)
+                .data(toJson(Map.of("version", version)))
+                .build();
+    }
+
+    // 구독자 수와 무관하게 메시지당 한 번만 직렬화
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("좌석 스트림 메시지 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.concerthub.domain.seat.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 좌석 스트림 구독자 한 명 (고정 크기 전송 버퍼)
+ * 버퍼가 넘치면 쌓인 메시지를 버리고 재동기화 메시지 하나만 남긴다.
+ */
+class SeatStreamSubscriber {
+
+    private final Long eventId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    SeatStreamSubscriber(Long eventId, SseEmitter emitter, int bufferSize) {
+        this.eventId = eventId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    Long getEventId() {
+        return eventId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+        buffer.clear();
+    }
+
+    /**
+     * 메시지 적재 (버퍼가 가득 차면 false)
+     */
+    boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> message) {
+        return !closed && buffer.offer(message);
+    }
+
+    /**
+     * 밀린 메시지를 버리고 재동기화 메시지로 대체
+     */
+    void resync(Set<ResponseBodyEmitter.DataWithMediaType> resyncMessage) {
+        if (closed) {
+            return;
+        }
+        buffer.clear();
+        buffer.offer(resyncMessage);
+    }
+
+    Set<ResponseBodyEmitter.DataWithMediaType> poll() {
+        return buffer.poll();
+    }
+
+    boolean hasPending() {
+        return !buffer.isEmpty();
+    }
+
+    /**
+     * 전송 작업은 구독자당 하나만 실행
+     */
+    boolean startDraining() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void stopDraining() {
+        draining.set(false);
+    }
+}
@@ -0,0 +1,74 @@
+package com.concerthub.domain.seat.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * 좌석 스트림 구독 토큰 발급/검증
+ * 브라우저 EventSource 는 헤더를 보낼 수 없어 인증/입장 확인을 마친 요청에서
+ * 짧게 유효한 토큰을 발급하고, 스트림 연결 시 쿼리 파라미터로 받아 확인한다.
+ * 토큰은 연결 시점에만 검사하므로 재연결할 때마다 새로 발급받는다.
+ */
+@Component
+public class SeatStreamTokenProvider {
+
+    private static final String SCOPE = "seat-stream";
+
+    private final SecretKey secretKey;
+    private final long tokenTtlSeconds;
+
+    public SeatStreamTokenProvider(
+            @Value("${jwt.secret}") String secret,
+            @Value("${seat-stream.token-ttl-seconds:60}") long tokenTtlSeconds) {
+        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
+                Jwts.SIG.HS256.key().build().getAlgorithm());
+        this.tokenTtlSeconds = tokenTtlSeconds;
+    }
+
+    public long getTokenTtlSeconds() {
+        return tokenTtlSeconds;
+    }
+
+    public String createToken(Long eventId, Long userId) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .subject(userId.toString())
+                .claim("scope", SCOPE)
+                .claim("eventId", eventId)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(tokenTtlSeconds)))
+                .signWith(secretKey)
+                .compact();
+    }
+
+    /**
+     * 해당 이벤트 스트림용으로 발급된 유효한 토큰인지 확인
+     */
+    public boolean isValid(String token, Long eventId) {
+        if (token == null || token.isBlank()) {
+            return false;
+        }
+
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+
+            return SCOPE.equals(claims.get("scope", String.class))
+                    && eventId.equals(claims.get("eventId", Long.class));
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
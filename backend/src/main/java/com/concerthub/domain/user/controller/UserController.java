@@ -4,6 +4,7 @@ import com.concerthub.domain.user.dto.request.UserCreateRequest;
 import com.concerthub.domain.user.dto.response.UserResponse;
 import com.concerthub.domain.user.entity.User;
 import com.concerthub.domain.user.service.UserService;
+import com.concerthub.global.datasource.ReadConsistency;
 import com.concerthub.global.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/api/users")
+@ReadConsistency(ReadConsistency.Level.STRONG)
 @RequiredArgsConstructor
 public class UserController {
 
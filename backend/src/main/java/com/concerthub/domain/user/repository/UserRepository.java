@@ -12,4 +12,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    // 예매 오픈 사전 준비에서 롤백용 예약을 만들 때 쓰는 임의의 사용자
+    Optional<User> findFirstByOrderByIdAsc();
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.concerthub.domain.venue.controller;
+
+import com.concerthub.domain.venue.dto.response.VenueLayoutResponse;
+import com.concerthub.domain.venue.service.VenueLayoutService;
+import com.concerthub.global.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/venue-layouts")
+@RequiredArgsConstructor
+public class VenueLayoutController {
+
+    private final VenueLayoutService venueLayoutService;
+
+    /**
+     * 공연장 배치 조회 (배치는 변하지 않으므로 같은 배치를 쓰는 이벤트끼리 캐시 공유)
+     */
+    @GetMapping("/{layoutId}")
+    public ResponseEntity<ApiResponse<VenueLayoutResponse>> getLayout(
+            @PathVariable Long layoutId,
+            WebRequest webRequest) {
+
+        String etag = "\"venue-layout-" + layoutId + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .eTag(etag)
+                .body(ApiResponse.success(venueLayoutService.getLayout(layoutId)));
+    }
+}
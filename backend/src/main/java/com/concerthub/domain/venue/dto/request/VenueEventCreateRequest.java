@@ -0,0 +1,33 @@
+package com.concerthub.domain.venue.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공연장 배치로 이벤트 생성 (장소와 좌석 수는 배치에서 가져옴)
+ */
+@Getter
+@NoArgsConstructor
+public class VenueEventCreateRequest {
+
+    @NotBlank(message = "이벤트 제목은 필수입니다.")
+    @Size(max = 100, message = "이벤트 제목은 100자를 초과할 수 없습니다.")
+    private String title;
+
+    @Size(max = 1000, message = "이벤트 설명은 1000자를 초과할 수 없습니다.")
+    private String description;
+
+    @NotNull(message = "이벤트 일시는 필수입니다.")
+    @Future(message = "이벤트 일시는 현재 시간 이후여야 합니다.")
+    private LocalDateTime eventDateTime;
+
+    @NotNull(message = "가격은 필수입니다.")
+    @Min(value = 0, message = "가격은 0 이상이어야 합니다.")
+    private Integer price; // 요금 비율 100% 좌석의 가격
+
+    @Future(message = "예매 오픈 시각은 현재 시간 이후여야 합니다.")
+    private LocalDateTime onSaleAt; // 비우면 즉시 예매 가능
+}
@@ -0,0 +1,56 @@
+package com.concerthub.domain.venue.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class VenueLayoutCreateRequest {
+
+    @NotBlank(message = "배치 이름은 필수입니다.")
+    @Size(max = 100, message = "배치 이름은 100자를 초과할 수 없습니다.")
+    private String name;
+
+    @NotBlank(message = "장소는 필수입니다.")
+    @Size(max = 100, message = "장소는 100자를 초과할 수 없습니다.")
+    private String venue;
+
+    @NotEmpty(message = "구역은 1개 이상이어야 합니다.")
+    @Valid
+    private List<Section> sections;
+
+    @Getter
+    @NoArgsConstructor
+    public static class Section {
+
+        @Size(max = 20, message = "구역 이름은 20자를 초과할 수 없습니다.")
+        private String section; // 구역 구분이 없으면 생략
+
+        @NotEmpty(message = "행은 1개 이상이어야 합니다.")
+        @Valid
+        private List<Row> rows;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class Row {
+
+        @NotBlank(message = "행 이름은 필수입니다.")
+        @Size(max = 5, message = "행 이름은 5자를 초과할 수 없습니다.")
+        private String row;
+
+        @NotNull(message = "행당 좌석 수는 필수입니다.")
+        @Min(value = 1, message = "행당 좌석 수는 1 이상이어야 합니다.")
+        @Max(value = 1000, message = "행당 좌석 수는 1,000을 초과할 수 없습니다.")
+        private Integer seatCount;
+
+        @NotNull(message = "요금 비율은 필수입니다.")
+        @Min(value = 1, message = "요금 비율은 1 이상이어야 합니다.")
+        @Max(value = 1000, message = "요금 비율은 1,000을 초과할 수 없습니다.")
+        private Integer priceRate; // 이벤트 기본 가격 대비 % (100 = 기본 가격)
+    }
+}
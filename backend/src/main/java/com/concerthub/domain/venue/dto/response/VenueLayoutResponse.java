@@ -0,0 +1,36 @@
+package com.concerthub.domain.venue.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 공연장 배치 (생성 후 변하지 않으므로 같은 배치를 쓰는 모든 이벤트가 공유하고 영구 캐시)
+ */
+@Getter
+@Builder
+public class VenueLayoutResponse {
+
+    private Long id;
+    private String name;
+    private String venue;
+    private Integer seatCount;
+    private List<Integer> priceRates; // 요금 등급별 비율 (비싼 순)
+    private List<Section> sections;
+
+    @Getter
+    @Builder
+    public static class Section {
+        private String section;
+        private List<Row> rows;
+    }
+
+    @Getter
+    @Builder
+    public static class Row {
+        private String label;
+        private List<String> seatNumbers;
+        private int[] tiers; // 좌석별 priceRates 인덱스
+    }
+}
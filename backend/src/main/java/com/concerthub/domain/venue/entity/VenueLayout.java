@@ -0,0 +1,52 @@
+package com.concerthub.domain.venue.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공연장 좌석 배치 템플릿 (생성 후 변경하지 않음)
+ * 같은 공연장의 이벤트는 이 배치를 DB 안에서 INSERT ... SELECT 로 복제해 좌석을 만든다.
+ */
+@Entity
+@Table(name = "venue_layouts")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class VenueLayout {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 100)
+    private String venue;
+
+    @Column(nullable = false)
+    private Integer seatCount;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public VenueLayout(String name, String venue, Integer seatCount) {
+        this.name = name;
+        this.venue = venue;
+        this.seatCount = seatCount;
+    }
+}
@@ -0,0 +1,52 @@
+package com.concerthub.domain.venue.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 템플릿의 좌석 한 칸 (JDBC 배치로만 저장)
+ */
+@Entity
+@Table(name = "venue_layout_seats",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"layout_id", "section", "seat_row", "seat_number"})
+        },
+        indexes = {
+                @Index(name = "idx_venue_layout_seats_layout_row_seat", columnList = "layout_id, row_idx, seat_idx")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VenueLayoutSeat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "layout_id", nullable = false)
+    private VenueLayout layout;
+
+    @Column(nullable = false, length = 20)
+    private String section;
+
+    @Column(nullable = false, length = 5)
+    private String seatRow;
+
+    @Column(nullable = false, length = 10)
+    private String seatNumber;
+
+    // 정렬용 좌표 (이벤트 좌석으로 그대로 복사)
+    @Column(name = "section_idx", nullable = false)
+    private Integer sectionIdx;
+
+    @Column(name = "row_idx", nullable = false)
+    private Integer rowIdx;
+
+    @Column(name = "seat_idx", nullable = false)
+    private Integer seatIdx;
+
+    @Column(nullable = false)
+    private Integer priceRate;   // 이벤트 기본 가격 대비 비율 (%, 100 = 기본 가격)
+}
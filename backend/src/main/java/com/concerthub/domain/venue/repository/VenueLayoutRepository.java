@@ -0,0 +1,18 @@
+package com.concerthub.domain.venue.repository;
+
+import com.concerthub.domain.venue.entity.VenueLayout;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface VenueLayoutRepository extends JpaRepository<VenueLayout, Long> {
+
+    // 배치 좌석 목록 [구역, 행, 번호, 요금 비율] (좌석 맵 순서)
+    @Query("SELECT s.section, s.seatRow, s.seatNumber, s.priceRate FROM VenueLayoutSeat s " +
+           "WHERE s.layout.id = :layoutId ORDER BY s.rowIdx, s.seatIdx")
+    List<Object[]> findSeatRowsByLayoutId(@Param("layoutId") Long layoutId);
+}
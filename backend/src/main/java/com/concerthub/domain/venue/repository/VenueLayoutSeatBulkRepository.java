@@ -0,0 +1,47 @@
+package com.concerthub.domain.venue.repository;
+
+import com.concerthub.domain.seat.entity.SeatCoordinates;
+import com.concerthub.domain.seat.entity.SeatCoordinates.Coordinate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 배치 템플릿 좌석 대량 저장 (IDENTITY 전략이라 JDBC 배치 사용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class VenueLayoutSeatBulkRepository {
+
+    private static final String INSERT_LAYOUT_SEAT_SQL =
+            "INSERT INTO venue_layout_seats (layout_id, section, seat_row, seat_number, " +
+            "section_idx, row_idx, seat_idx, price_rate) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertSeats(Long layoutId, List<LayoutSeat> seats) {
+        List<Coordinate> coordinates = SeatCoordinates.assign(seats,
+                LayoutSeat::section, LayoutSeat::seatRow, LayoutSeat::seatNumber);
+
+        jdbcTemplate.batchUpdate(INSERT_LAYOUT_SEAT_SQL, IntStream.range(0, seats.size()).boxed().toList(), seats.size(),
+                (ps, index) -> {
+                    LayoutSeat seat = seats.get(index);
+                    Coordinate coordinate = coordinates.get(index);
+                    ps.setLong(1, layoutId);
+                    ps.setString(2, seat.section());
+                    ps.setString(3, seat.seatRow());
+                    ps.setString(4, seat.seatNumber());
+                    ps.setInt(5, coordinate.sectionIdx());
+                    ps.setInt(6, coordinate.rowIdx());
+                    ps.setInt(7, coordinate.seatIdx());
+                    ps.setInt(8, seat.priceRate());
+                });
+    }
+
+    public record LayoutSeat(String section, String seatRow, String seatNumber, int priceRate) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.concerthub.domain.venue.service;
+
+import com.concerthub.domain.event.entity.Event;
+import com.concerthub.domain.event.service.EventService;
+import com.concerthub.domain.seat.repository.SeatRepository;
+import com.concerthub.domain.venue.dto.request.VenueEventCreateRequest;
+import com.concerthub.domain.venue.dto.request.VenueLayoutCreateRequest;
+import com.concerthub.domain.venue.dto.response.VenueLayoutResponse;
+import com.concerthub.domain.venue.entity.VenueLayout;
+import com.concerthub.domain.venue.repository.VenueLayoutRepository;
+import com.concerthub.domain.venue.repository.VenueLayoutSeatBulkRepository;
+import com.concerthub.domain.venue.repository.VenueLayoutSeatBulkRepository.LayoutSeat;
+import com.concerthub.global.exception.BusinessException;
+import com.concerthub.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VenueLayoutService {
+
+    private static final int MAX_LAYOUT_SEATS = 100000;
+
+    private final VenueLayoutRepository venueLayoutRepository;
+    private final VenueLayoutSeatBulkRepository venueLayoutSeatBulkRepository;
+    private final SeatRepository seatRepository;
+    private final EventService eventService;
+
+    // 배치는 생성 후 변경되지 않으므로 한 번 만든 응답을 모든 이벤트가 공유
+    private final Map<Long, VenueLayoutResponse> layoutCache = new ConcurrentHashMap<>();
+
+    @Transactional
+    public VenueLayout createLayout(VenueLayoutCreateRequest request) {
+        List<LayoutSeat> seats = new ArrayList<>();
+        Set<String> rowKeys = new HashSet<>();
+
+        for (VenueLayoutCreateRequest.Section section : request.getSections()) {
+            String sectionName = section.getSection() != null ? section.getSection().trim() : "";
+
+            for (VenueLayoutCreateRequest.Row row : section.getRows()) {
+                String rowLabel = row.getRow().trim();
+                if (!rowKeys.add(sectionName + "/" + rowLabel)) {
+                    throw new BusinessException(ErrorCode.INVALID_VENUE_LAYOUT,
+                            String.format("중복된 행입니다: %s %s", sectionName, rowLabel));
+                }
+
+                for (int seatNum = 1; seatNum <= row.getSeatCount(); seatNum++) {
+                    seats.add(new LayoutSeat(sectionName, rowLabel, String.valueOf(seatNum), row.getPriceRate()));
+                }
+            }
+        }
+
+        if (seats.size() > MAX_LAYOUT_SEATS) {
+            throw new BusinessException(ErrorCode.INVALID_SEAT_COUNT,
+                    String.format("배치 좌석 수는 %,d석을 초과할 수 없습니다.", MAX_LAYOUT_SEATS));
+        }
+
+        VenueLayout layout = venueLayoutRepository.save(VenueLayout.builder()
+                .name(request.getName())
+                .venue(request.getVenue())
+                .seatCount(seats.size())
+                .build());
+        venueLayoutSeatBulkRepository.insertSeats(layout.getId(), seats);
+
+        log.info("공연장 배치 생성: 배치ID={}, 좌석 수={}", layout.getId(), seats.size());
+        return layout;
+    }
+
+    public VenueLayout getLayoutEntity(Long layoutId) {
+        return venueLayoutRepository.findById(layoutId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.VENUE_LAYOUT_NOT_FOUND));
+    }
+
+    /**
+     * 공연장 배치 조회 (최초 1회만 DB 조회 후 메모리에서 공유)
+     */
+    public VenueLayoutResponse getLayout(Long layoutId) {
+        VenueLayoutResponse cached = layoutCache.get(layoutId);
+        if (cached != null) {
+            return cached;
+        }
+
+        VenueLayoutResponse layout = buildLayout(getLayoutEntity(layoutId));
+        layoutCache.putIfAbsent(layoutId, layout);
+        return layout;
+    }
+
+    /**
+     * 배치로 이벤트 생성 (좌석은 애플리케이션을 거치지 않고 DB 안에서 복제)
+     */
+    @Transactional
+    public Event createEvent(Long layoutId, VenueEventCreateRequest request) {
+        VenueLayout layout = getLayoutEntity(layoutId);
+
+        Event event = eventService.createEvent(
+                request.getTitle(),
+                request.getDescription(),
+                layout.getVenue(),
+                request.getEventDateTime(),
+                layout.getSeatCount(),
+                request.getPrice(),
+                request.getOnSaleAt(),
+                layoutId
+        );
+
+        int seatCount = seatRepository.insertFromVenueLayout(event.getId(), layoutId, request.getPrice(), LocalDateTime.now());
+        log.info("배치로 이벤트 생성: 이벤트ID={}, 배치ID={}, 좌석 수={}", event.getId(), layoutId, seatCount);
+        return event;
+    }
+
+    private VenueLayoutResponse buildLayout(VenueLayout layout) {
+        List<Object[]> seatRows = venueLayoutRepository.findSeatRowsByLayoutId(layout.getId());
+
+        TreeSet<Integer> distinctRates = new TreeSet<>(Comparator.reverseOrder());
+        for (Object[] seat : seatRows) {
+            distinctRates.add((Integer) seat[3]);
+        }
+        List<Integer> priceRates = List.copyOf(distinctRates);
+
+        // 좌석 맵 순서를 유지하며 구역 → 행으로 묶음
+        Map<String, Map<String, List<Object[]>>> grouped = new LinkedHashMap<>();
+        for (Object[] seat : seatRows) {
+            grouped.computeIfAbsent((String) seat[0], key -> new LinkedHashMap<>())
+                    .computeIfAbsent((String) seat[1], key -> new ArrayList<>())
+                    .add(seat);
+        }
+
+        List<VenueLayoutResponse.Section> sections = new ArrayList<>();
+        grouped.forEach((section, rows) -> {
+            List<VenueLayoutResponse.Row> rowResponses = new ArrayList<>();
+            rows.forEach((label, seats) -> {
+                int[] tiers = new int[seats.size()];
+                List<String> seatNumbers = new ArrayList<>(seats.size());
+                for (int i = 0; i < seats.size(); i++) {
+                    seatNumbers.add((String) seats.get(i)[2]);
+                    tiers[i] = priceRates.indexOf((Integer) seats.get(i)[3]);
+                }
+                rowResponses.add(VenueLayoutResponse.Row.builder()
+                        .label(label)
+                        .seatNumbers(seatNumbers)
+                        .tiers(tiers)
+                        .build());
+            });
+            sections.add(VenueLayoutResponse.Section.builder()
+                    .section(section)
+                    .rows(rowResponses)
+                    .build());
+        });
+
+        return VenueLayoutResponse.builder()
+                .id(layout.getId())
+                .name(layout.getName())
+                .venue(layout.getVenue())
+                .seatCount(layout.getSeatCount())
+                .priceRates(priceRates)
+                .sections(sections)
+                .build();
+    }
+}
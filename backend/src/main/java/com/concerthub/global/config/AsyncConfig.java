@@ -0,0 +1,46 @@
+package com.concerthub.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 결제 처리 전용 스레드 풀
+     * 결제 대기(1-3초)가 톰캣 요청 스레드를 점유하지 않도록 분리
+     */
+    @Bean(name = "paymentExecutor")
+    public ThreadPoolTaskExecutor paymentExecutor(
+            @Value("${payment.executor.core-pool-size:16}") int corePoolSize,
+            @Value("${payment.executor.max-pool-size:64}") int maxPoolSize,
+            @Value("${payment.executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("payment-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 좌석 스트림(SSE) 전송 전용 스레드 풀
+     * 느린 구독자의 네트워크 쓰기가 좌석 상태를 커밋한 요청 스레드를 붙잡지 않도록 분리
+     */
+    @Bean(name = "seatStreamExecutor")
+    public ThreadPoolTaskExecutor seatStreamExecutor(
+            @Value("${seat-stream.executor.core-pool-size:8}") int corePoolSize,
+            @Value("${seat-stream.executor.max-pool-size:32}") int maxPoolSize,
+            @Value("${seat-stream.executor.queue-capacity:20000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("seat-stream-");
+        return executor;
+    }
+}
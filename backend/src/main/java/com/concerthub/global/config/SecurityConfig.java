@@ -3,6 +3,7 @@ package com.concerthub.global.config;
 import com.concerthub.global.jwt.filter.JwtAuthorizationFilter;
 import com.concerthub.global.jwt.filter.JwtExceptionFilter;
 import com.concerthub.global.jwt.util.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,6 +39,7 @@ public class SecurityConfig {
             "/api/auth/refresh",
             "/api/users/register",
             "/api/users/admin",
+            "/api/events/*/seats/stream",   // EventSource 는 헤더를 못 보내 구독 토큰으로 검사
             "/actuator/**",
             "/h2-console/**"
     };
@@ -58,6 +60,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:5173", "http://localhost:3000"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList("ETag", "X-Layout-Version", "X-Seat-Count", "X-Seat-Map-Version"));
         configuration.setAllowCredentials(true);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -84,7 +87,9 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
         // 경로별 인가 설정
+        // 비동기 디스패치(SSE 종료 등)는 최초 요청에서 이미 인가됨
         http.authorizeHttpRequests(auth -> auth
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(allowedUrls).permitAll()
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
@@ -1,18 +1,40 @@
 package com.concerthub.global.config;
 
+import com.concerthub.domain.queue.interceptor.AdmissionInterceptor;
+import com.concerthub.global.datasource.ReadConsistencyInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final AdmissionInterceptor admissionInterceptor;
+    private final ReadConsistencyInterceptor readConsistencyInterceptor;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
                 .allowedOrigins("http://localhost:5173") // Vite 기본 포트
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag", "X-Layout-Version", "X-Seat-Count", "X-Seat-Map-Version") // 좌석 배치/상태 캐시 검증용
                 .allowCredentials(true);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 엔드포인트별 읽기 일관성 (primary/replica 라우팅)
+        registry.addInterceptor(readConsistencyInterceptor)
+                .addPathPatterns("/api/**");
+
+        // 좌석 API 는 대기실 입장 토큰이 있어야 접근 가능
+        // 스트림은 입장 확인 후 발급된 구독 토큰(stream-token)으로 대신 검사
+        registry.addInterceptor(admissionInterceptor)
+                .addPathPatterns("/api/events/*/seats", "/api/events/*/seats/**")
+                .excludePathPatterns("/api/events/*/seats/stream");
+    }
+}
@@ -0,0 +1,6 @@
+package com.concerthub.global.datasource;
+
+public enum DataSourceType {
+    PRIMARY,  // 쓰기 + 강한 일관성 읽기
+    REPLICA   // 지연을 허용하는 읽기 전용 트랜잭션
+}
@@ -0,0 +1,22 @@
+package com.concerthub.global.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔드포인트별 읽기 일관성 (컨트롤러 클래스 또는 메서드에 지정, 메서드가 우선)
+ * 지정하지 않은 엔드포인트는 datasource-routing.default-consistency 를 따른다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadConsistency {
+
+    Level value();
+
+    enum Level {
+        STRONG,    // 읽기 전용 트랜잭션도 primary 에서 읽음
+        EVENTUAL   // 읽기 전용 트랜잭션은 replica 에서 읽음 (복제 지연만큼 오래된 값 허용)
+    }
+}
@@ -0,0 +1,78 @@
+package com.concerthub.global.datasource;
+
+import com.concerthub.global.jwt.userdetails.CustomUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Set;
+
+/**
+ * 요청마다 엔드포인트의 읽기 일관성을 라우팅 상태에 설정하고,
+ * 상태를 바꾸는 요청(GET/HEAD/OPTIONS 외)을 보낸 사용자는 primary 읽기로 고정한다.
+ * 응답이 전송된 뒤(afterCompletion)에 고정하면 응답을 받은 클라이언트의 바로 다음 읽기가
+ * 고정보다 먼저 도착할 수 있으므로 핸들러 실행 전에 고정하고, 끝날 때 고정 시간을 다시 연장한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadConsistencyInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReadRoutingContext readRoutingContext;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Long userId = currentUserId();
+        if (isWrite(request)) {
+            readRoutingContext.pin(userId);
+        }
+        readRoutingContext.begin(resolveLevel(handler), userId);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        readRoutingContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        readRoutingContext.clear();
+
+        // 고정 시간은 쓰기가 끝난 시점부터 다시 계산
+        if (isWrite(request)) {
+            readRoutingContext.pin(currentUserId());
+        }
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        return !SAFE_METHODS.contains(request.getMethod());
+    }
+
+    private ReadConsistency.Level resolveLevel(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return null;
+        }
+
+        ReadConsistency annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), ReadConsistency.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), ReadConsistency.class);
+        }
+        return annotation != null ? annotation.value() : null;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getId();
+        }
+        return null;
+    }
+}
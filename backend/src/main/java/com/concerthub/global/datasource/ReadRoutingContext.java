@@ -0,0 +1,63 @@
+package com.concerthub.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 요청 단위 읽기 라우팅 상태
+ * 요청 스레드에 엔드포인트의 일관성 수준과 read-your-writes 고정 여부를 두고,
+ * 쓰기 요청을 보낸 사용자는 복제 지연을 넘길 때까지 읽기도 primary 로 고정한다.
+ * 고정 정보는 인스턴스 메모리에만 있으므로 여러 인스턴스라면 세션 고정(sticky) 로드밸런싱을 전제로 한다.
+ */
+@Component
+public class ReadRoutingContext {
+
+    private static final ThreadLocal<ReadConsistency.Level> CURRENT = new ThreadLocal<>();
+
+    private final ReadConsistency.Level defaultLevel;
+    private final Cache<Long, Boolean> pinnedUsers;
+
+    public ReadRoutingContext(
+            @Value("${datasource-routing.default-consistency:EVENTUAL}") ReadConsistency.Level defaultLevel,
+            @Value("${datasource-routing.read-your-writes-seconds:5}") long readYourWritesSeconds,
+            @Value("${datasource-routing.max-pinned-users:100000}") long maxPinnedUsers) {
+        this.defaultLevel = defaultLevel;
+        this.pinnedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(readYourWritesSeconds))
+                .maximumSize(maxPinnedUsers)
+                .build();
+    }
+
+    /**
+     * 요청 시작 (userId 는 비로그인이면 null)
+     */
+    public void begin(ReadConsistency.Level level, Long userId) {
+        boolean pinned = userId != null && pinnedUsers.getIfPresent(userId) != null;
+        CURRENT.set(pinned ? ReadConsistency.Level.STRONG : (level != null ? level : defaultLevel));
+    }
+
+    public void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 사용자의 쓰기 이후 일정 시간 읽기를 primary 로 고정 (비로그인이면 무시)
+     */
+    public void pin(Long userId) {
+        if (userId != null) {
+            pinnedUsers.put(userId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 읽기 전용 트랜잭션을 replica 로 보낼 수 있는지
+     * 컨트롤러 밖(인증 필터의 사용자/블랙리스트 조회, 스케줄러, 비동기 작업)은 항상 primary 에서 읽는다.
+     */
+    public boolean allowsReplica() {
+        return CURRENT.get() == ReadConsistency.Level.EVENTUAL;
+    }
+}
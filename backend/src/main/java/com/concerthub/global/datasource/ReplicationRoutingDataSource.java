@@ -0,0 +1,27 @@
+package com.concerthub.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 속성으로 primary/replica 선택
+ * 읽기 전용 트랜잭션이고 현재 요청이 지연을 허용할 때만 replica 로 보낸다.
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 바인딩되지 않으므로 LazyConnectionDataSourceProxy 뒤에 두어
+ * 첫 쿼리 시점에 커넥션을 고르게 한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadRoutingContext readRoutingContext;
+
+    public ReplicationRoutingDataSource(ReadRoutingContext readRoutingContext) {
+        this.readRoutingContext = readRoutingContext;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && readRoutingContext.allowsReplica()) {
+            return DataSourceType.REPLICA;
+        }
+        return DataSourceType.PRIMARY;
+    }
+}
@@ -13,12 +13,16 @@ public enum ErrorCode {
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "C002", "지원하지 않는 HTTP 메서드입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C003", "서버 내부 오류입니다."),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C004", "잘못된 타입 값입니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "C005", "Idempotency-Key 는 1~255자여야 합니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "C006", "같은 Idempotency-Key 의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "C007", "같은 Idempotency-Key 를 다른 요청 내용으로 재사용할 수 없습니다."),
 
     // 이벤트 관련 에러
     EVENT_NOT_FOUND(HttpStatus.NOT_FOUND, "E001", "존재하지 않는 이벤트입니다."),
     EVENT_ALREADY_SOLD_OUT(HttpStatus.BAD_REQUEST, "E002", "이미 매진된 이벤트입니다."),
     EVENT_NOT_AVAILABLE(HttpStatus.BAD_REQUEST, "E003", "예약할 수 없는 이벤트입니다."),
     INVALID_SEAT_COUNT(HttpStatus.BAD_REQUEST, "E004", "좌석 수가 올바르지 않습니다."),
+    EVENT_NOT_ON_SALE(HttpStatus.BAD_REQUEST, "E005", "아직 예매가 시작되지 않은 이벤트입니다."),
 
     // 좌석 관련 에러
     SEAT_NOT_FOUND(HttpStatus.NOT_FOUND, "S001", "존재하지 않는 좌석입니다."),
@@ -27,6 +31,13 @@ public enum ErrorCode {
     SEAT_TEMPORARILY_RESERVED(HttpStatus.BAD_REQUEST, "S004", "임시 예약된 좌석입니다."),
     SEAT_RESERVATION_EXPIRED(HttpStatus.BAD_REQUEST, "S005", "좌석 예약 시간이 만료되었습니다."),
     INVALID_SEAT_OPERATION(HttpStatus.BAD_REQUEST, "S006", "잘못된 좌석 작업입니다."),
+    SEAT_ALLOCATION_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "S007", "자동 좌석 배정을 사용할 수 없습니다."),
+    NOT_ENOUGH_CONTIGUOUS_SEATS(HttpStatus.CONFLICT, "S008", "요청한 수만큼 연속된 빈 좌석이 없습니다."),
+    SEATS_ALREADY_EXIST(HttpStatus.CONFLICT, "S009", "이미 좌석이 등록된 이벤트입니다."),
+    SEAT_IMPORT_IN_PROGRESS(HttpStatus.CONFLICT, "S010", "좌석 가져오기가 진행 중입니다."),
+    INVALID_SEAT_IMPORT(HttpStatus.BAD_REQUEST, "S011", "좌석 가져오기 데이터가 올바르지 않습니다."),
+    SEAT_IMPORT_NOT_FOUND(HttpStatus.NOT_FOUND, "S012", "좌석 가져오기 내역이 없습니다."),
+    INVALID_SEAT_STREAM_TOKEN(HttpStatus.FORBIDDEN, "S013", "유효하지 않은 좌석 스트림 토큰입니다."),
 
     // 예약 관련 에러
     RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "R001", "존재하지 않는 예약입니다."),
@@ -34,6 +45,7 @@ public enum ErrorCode {
     RESERVATION_ALREADY_CONFIRMED(HttpStatus.BAD_REQUEST, "R003", "이미 확정된 예약입니다."),
     RESERVATION_ALREADY_CANCELLED(HttpStatus.BAD_REQUEST, "R004", "이미 취소된 예약입니다."),
     RESERVATION_NOT_PENDING(HttpStatus.BAD_REQUEST, "R005", "대기 중인 예약이 아닙니다."),
+    RESERVATION_ACCESS_DENIED(HttpStatus.FORBIDDEN, "R006", "본인의 예약이 아닙니다."),
 
     // 사용자 관련 에러
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "존재하지 않는 사용자입니다."),
@@ -41,7 +53,19 @@ public enum ErrorCode {
 
     // 결제 관련 에러
     PAYMENT_FAILED(HttpStatus.BAD_REQUEST, "P001", "결제 처리에 실패했습니다."),
-    PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "P002", "존재하지 않는 결제입니다.");
+    PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "P002", "존재하지 않는 결제입니다."),
+    PAYMENT_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "P003", "결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    PAYMENT_CONFIRMATION_NOT_FOUND(HttpStatus.NOT_FOUND, "P004", "결제 확정 요청을 찾을 수 없습니다."),
+
+    // 대기열 관련 에러
+    QUEUE_TICKET_NOT_FOUND(HttpStatus.NOT_FOUND, "Q001", "대기열 등록 정보가 없습니다."),
+    ADMISSION_REQUIRED(HttpStatus.FORBIDDEN, "Q002", "대기열 입장 후 이용할 수 있습니다."),
+    INVALID_ADMISSION_TOKEN(HttpStatus.FORBIDDEN, "Q003", "유효하지 않은 입장 토큰입니다."),
+    ADMISSION_EXPIRED(HttpStatus.FORBIDDEN, "Q004", "입장 시간이 만료되었습니다. 대기열에 다시 등록해주세요."),
+
+    // 공연장 배치 관련 에러
+    VENUE_LAYOUT_NOT_FOUND(HttpStatus.NOT_FOUND, "V001", "존재하지 않는 공연장 배치입니다."),
+    INVALID_VENUE_LAYOUT(HttpStatus.BAD_REQUEST, "V002", "공연장 배치가 올바르지 않습니다.");
 
     private final HttpStatus httpStatus;
     private final String code;
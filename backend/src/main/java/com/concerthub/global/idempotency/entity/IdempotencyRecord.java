@@ -0,0 +1,66 @@
+package com.concerthub.global.idempotency.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 키별 최초 응답 (캐시에서 밀려나거나 재기동된 뒤에도 재응답하기 위한 저장소)
+ */
+@Entity
+@Table(name = "idempotency_records",
+        indexes = {
+                @Index(name = "idx_idempotency_records_expires_at", columnList = "expires_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 400)
+    private String idempotencyKey; // 사용자 + 요청 경로 + Idempotency-Key
+
+    @Column(nullable = false)
+    private Integer statusCode;
+
+    @Column(length = 100)
+    private String contentType;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String responseBody;
+
+    @Column(length = 64)
+    private String requestHash;    // 요청 쿼리 + 본문의 SHA-256 (키 재사용 검사)
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public IdempotencyRecord(String idempotencyKey, Integer statusCode, String contentType,
+                             String responseBody, String requestHash, LocalDateTime expiresAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.responseBody = responseBody;
+        this.requestHash = requestHash;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(this.expiresAt);
+    }
+}
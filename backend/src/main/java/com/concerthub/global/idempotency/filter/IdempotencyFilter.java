@@ -0,0 +1,187 @@
+package com.concerthub.global.idempotency.filter;
+
+import com.concerthub.global.exception.ErrorCode;
+import com.concerthub.global.exception.ErrorResponse;
+import com.concerthub.global.idempotency.service.IdempotencyService;
+import com.concerthub.global.idempotency.service.IdempotentResponse;
+import com.concerthub.global.jwt.userdetails.CustomUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 헤더가 있는 예약/결제 요청의 중복 실행 방지
+ * 같은 키로 다시 들어온 요청은 최초 응답을 그대로 재응답하고,
+ * 최초 요청이 아직 처리 중이면 그 결과를 기다렸다가 같은 응답을 돌려준다.
+ * 같은 키라도 요청 내용(쿼리 + 본문)이 다르면 재응답하지 않고 422 로 거절한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long IN_FLIGHT_WAIT_SECONDS = 30;
+
+    private static final List<String> TARGET_PATTERNS = List.of(
+            "/api/reservations",
+            "/api/reservations/batch",
+            "/api/reservations/best-available",
+            "/api/reservations/*/confirm",
+            "/api/reservations/*/confirm/async",
+            "/api/payments/**"
+    );
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+
+        String path = request.getRequestURI();
+        return TARGET_PATTERNS.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, ErrorCode.INVALID_IDEMPOTENCY_KEY);
+            return;
+        }
+
+        String key = scopedKey(request, idempotencyKey);
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = requestHash(cachedRequest);
+        CompletableFuture<IdempotentResponse> owner = new CompletableFuture<>();
+
+        // 1. 같은 키가 처리 중이면 그 결과를 기다려 재응답
+        CompletableFuture<IdempotentResponse> inFlight = idempotencyService.acquire(key, owner);
+        if (inFlight != null) {
+            awaitAndReplay(inFlight, requestHash, response);
+            return;
+        }
+
+        try {
+            // 2. 이미 처리된 키면 보관된 응답으로 재응답
+            Optional<IdempotentResponse> stored = idempotencyService.findStored(key);
+            if (stored.isPresent()) {
+                idempotencyService.release(key, owner, stored.get());
+                replay(stored.get(), requestHash, response);
+                return;
+            }
+
+            // 3. 최초 요청 처리 후 응답 보관
+            ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(cachedRequest, responseWrapper);
+
+            idempotencyService.complete(key, owner, new IdempotentResponse(
+                    responseWrapper.getStatus(),
+                    responseWrapper.getContentType(),
+                    responseWrapper.getContentAsByteArray(),
+                    requestHash
+            ));
+            responseWrapper.copyBodyToResponse();
+        } catch (ServletException | IOException | RuntimeException e) {
+            idempotencyService.abort(key, owner, e);
+            throw e;
+        }
+    }
+
+    // 키는 사용자 + 요청 경로 단위로 구분 (다른 사용자/API 와 키가 겹쳐도 섞이지 않음)
+    private String scopedKey(HttpServletRequest request, String idempotencyKey) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String principal = authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                ? userDetails.getId().toString()
+                : "anonymous";
+
+        return principal + ":" + request.getRequestURI() + ":" + idempotencyKey;
+    }
+
+    // 요청 지문 (쿼리 문자열 + 본문의 SHA-256)
+    private String requestHash(CachedBodyRequest request) {
+        MessageDigest digest = sha256();
+        if (request.getQueryString() != null) {
+            digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) '\n');
+        digest.update(request.getBody());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitAndReplay(CompletableFuture<IdempotentResponse> inFlight, String requestHash,
+                                HttpServletResponse response) throws IOException {
+        try {
+            replay(inFlight.get(IN_FLIGHT_WAIT_SECONDS, TimeUnit.SECONDS), requestHash, response);
+        } catch (TimeoutException e) {
+            writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            log.warn("멱등 요청 원본 처리 실패", e.getCause());
+            writeError(response, ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private void replay(IdempotentResponse stored, String requestHash, HttpServletResponse response) throws IOException {
+        if (!stored.matches(requestHash)) {
+            writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            return;
+        }
+
+        response.setStatus(stored.statusCode());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(ErrorResponse.of(errorCode)));
+    }
+}
@@ -0,0 +1,126 @@
+package com.concerthub.global.idempotency.service;
+
+import com.concerthub.global.idempotency.entity.IdempotencyRecord;
+import com.concerthub.global.idempotency.repository.IdempotencyRecordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 멱등 키 응답 저장소
+ * 최근 응답은 크기/TTL 제한 메모리 캐시에, 전체 응답은 DB 에 보관하고
+ * 처리 중인 같은 키의 요청은 하나의 Future 로 묶어 결과를 공유한다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Duration ttl;
+    private final Cache<String, IdempotentResponse> cache;
+
+    private final Map<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              @Value("${idempotency.cache-size:10000}") long cacheSize,
+                              @Value("${idempotency.ttl-hours:24}") long ttlHours) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 키 처리 권한 획득 (이미 처리 중인 요청이 있으면 그 요청의 Future 반환, 없으면 null)
+     */
+    public CompletableFuture<IdempotentResponse> acquire(String key, CompletableFuture<IdempotentResponse> owner) {
+        return inFlight.putIfAbsent(key, owner);
+    }
+
+    /**
+     * 보관된 응답 조회 (캐시 → DB 순)
+     */
+    public Optional<IdempotentResponse> findStored(String key) {
+        IdempotentResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        return idempotencyRecordRepository.findByIdempotencyKey(key)
+                .filter(record -> !record.isExpired())
+                .map(record -> {
+                    IdempotentResponse response = new IdempotentResponse(
+                            record.getStatusCode(),
+                            record.getContentType(),
+                            record.getResponseBody().getBytes(StandardCharsets.UTF_8),
+                            record.getRequestHash()
+                    );
+                    cache.put(key, response);
+                    return response;
+                });
+    }
+
+    /**
+     * 처리 결과 보관 후 대기 중인 중복 요청에 결과 전달
+     */
+    public void complete(String key, CompletableFuture<IdempotentResponse> owner, IdempotentResponse response) {
+        try {
+            if (response.isStorable()) {
+                cache.put(key, response);
+                save(key, response);
+            }
+        } finally {
+            inFlight.remove(key, owner);
+            owner.complete(response);
+        }
+    }
+
+    /**
+     * 보관된 응답으로 처리를 마친 경우 (새로 저장하지 않음)
+     */
+    public void release(String key, CompletableFuture<IdempotentResponse> owner, IdempotentResponse response) {
+        inFlight.remove(key, owner);
+        owner.complete(response);
+    }
+
+    public void abort(String key, CompletableFuture<IdempotentResponse> owner, Throwable cause) {
+        inFlight.remove(key, owner);
+        owner.completeExceptionally(cause);
+    }
+
+    public int deleteExpiredRecords() {
+        return idempotencyRecordRepository.deleteExpiredRecords(LocalDateTime.now());
+    }
+
+    private void save(String key, IdempotentResponse response) {
+        try {
+            idempotencyRecordRepository.save(IdempotencyRecord.builder()
+                    .idempotencyKey(key)
+                    .statusCode(response.statusCode())
+                    .contentType(response.contentType())
+                    .responseBody(new String(response.body(), StandardCharsets.UTF_8))
+                    .requestHash(response.requestHash())
+                    .expiresAt(LocalDateTime.now().plus(ttl))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 저장한 경우
+            log.debug("이미 저장된 멱등 키: {}", key);
+        } catch (Exception e) {
+            // 저장 실패해도 메모리 캐시로 재응답은 가능
+            log.warn("멱등 응답 저장 실패: {}", key, e);
+        }
+    }
+}
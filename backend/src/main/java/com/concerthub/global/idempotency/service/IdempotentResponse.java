@@ -0,0 +1,29 @@
+package com.concerthub.global.idempotency.service;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 멱등 요청의 최초 응답 (상태 코드, 콘텐츠 타입, 본문)과 그 요청의 지문
+ */
+public record IdempotentResponse(
+        int statusCode,
+        String contentType,
+        byte[] body,
+        String requestHash
+) {
+
+    /**
+     * 성공 응답과 재시도해도 결과가 같은 충돌(409)만 보관한다
+     * 인증/권한(401/403), 요청 제한(429), 예매 오픈 전(E005) 같은 일시적 실패와 서버 오류는 재시도로 회복될 수 있다.
+     */
+    public boolean isStorable() {
+        return HttpStatus.valueOf(statusCode).is2xxSuccessful() || statusCode == HttpStatus.CONFLICT.value();
+    }
+
+    /**
+     * 같은 요청 내용인지 (지문이 없는 이전 기록은 같은 요청으로 본다)
+     */
+    public boolean matches(String otherRequestHash) {
+        return requestHash == null || requestHash.equals(otherRequestHash);
+    }
+}
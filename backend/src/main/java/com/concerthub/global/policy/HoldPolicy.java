@@ -0,0 +1,12 @@
+package com.concerthub.global.policy;
+
+/**
+ * 좌석 임시 선점 정책 (좌석과 예약 도메인이 같은 값을 쓰도록 한곳에 둔다)
+ */
+public final class HoldPolicy {
+
+    public static final long HOLD_MINUTES = 15; // 임시 예약 유지 시간
+
+    private HoldPolicy() {
+    }
+}
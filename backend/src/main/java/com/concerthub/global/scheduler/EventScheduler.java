@@ -0,0 +1,56 @@
+package com.concerthub.global.scheduler;
+
+import com.concerthub.domain.event.search.EventSearchIndex;
+import com.concerthub.domain.event.service.AvailableSeatCounter;
+import com.concerthub.domain.event.service.OnSalePreWarmer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventScheduler {
+
+    private final AvailableSeatCounter availableSeatCounter;
+    private final EventSearchIndex eventSearchIndex;
+    private final OnSalePreWarmer onSalePreWarmer;
+
+    /**
+     * 매 1초마다 잔여석 증감분 병합
+     */
+    @Scheduled(fixedDelayString = "${event.seat-counter.flush-interval-ms:1000}")
+    public void flushAvailableSeats() {
+        try {
+            availableSeatCounter.flush();
+        } catch (Exception e) {
+            log.error("잔여석 병합 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 매 30초마다 예매 오픈이 임박한 이벤트 사전 준비
+     */
+    @Scheduled(fixedDelayString = "${event.on-sale.warmup-check-interval-ms:30000}")
+    public void warmUpcomingOnSales() {
+        try {
+            onSalePreWarmer.warmUpcoming();
+        } catch (Exception e) {
+            log.error("예매 오픈 사전 준비 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 매 5분마다 이벤트 검색 색인 재적재 (다른 인스턴스의 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${event.search.rebuild-interval-ms:300000}",
+               initialDelayString = "${event.search.rebuild-interval-ms:300000}")
+    public void rebuildSearchIndex() {
+        try {
+            eventSearchIndex.rebuild();
+        } catch (Exception e) {
+            log.error("이벤트 검색 색인 재적재 중 오류 발생", e);
+        }
+    }
+}
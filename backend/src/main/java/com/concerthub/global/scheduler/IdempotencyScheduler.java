@@ -0,0 +1,30 @@
+package com.concerthub.global.scheduler;
+
+import com.concerthub.global.idempotency.service.IdempotencyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyScheduler {
+
+    private final IdempotencyService idempotencyService;
+
+    /**
+     * 매 1시간마다 보관 기간이 지난 멱등 응답 삭제
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    public void deleteExpiredRecords() {
+        try {
+            int deleted = idempotencyService.deleteExpiredRecords();
+            if (deleted > 0) {
+                log.info("만료된 멱등 응답 {}건 삭제", deleted);
+            }
+        } catch (Exception e) {
+            log.error("멱등 응답 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.concerthub.global.scheduler;
+
+import com.concerthub.domain.payment.service.PaymentConfirmationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentScheduler {
+
+    private final PaymentConfirmationService paymentConfirmationService;
+
+    /**
+     * 매 1분마다 완료된 비동기 결제 확정 핸들 정리
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictCompletedConfirmations() {
+        try {
+            paymentConfirmationService.evictCompletedConfirmations();
+        } catch (Exception e) {
+            log.error("결제 확정 핸들 정리 중 오류 발생", e);
+        }
+    }
+}
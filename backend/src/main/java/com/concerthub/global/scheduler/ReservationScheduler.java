@@ -1,6 +1,6 @@
 package com.concerthub.global.scheduler;
 
-import com.concerthub.domain.reservation.service.ReservationService;
+import com.concerthub.domain.reservation.service.ReservationExpiryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,15 +11,15 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ReservationScheduler {
 
-    private final ReservationService reservationService;
+    private final ReservationExpiryService reservationExpiryService;
 
     /**
-     * 매 1분마다 만료된 예약 정리
+     * 만료 큐에서 누락된 예약 정리 (기본 10분마다, 실제 만료는 ReservationExpiryQueue 가 처리)
      */
-    @Scheduled(fixedDelay = 60000) // 1분마다 실행
+    @Scheduled(fixedDelayString = "${reservation.expiry.sweep-interval-ms:600000}")
     public void cleanupExpiredReservations() {
         try {
-            reservationService.cleanupExpiredReservations();
+            reservationExpiryService.expireAll();
         } catch (Exception e) {
             log.error("만료된 예약 정리 중 오류 발생", e);
         }
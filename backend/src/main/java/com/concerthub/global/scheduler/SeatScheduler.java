@@ -0,0 +1,44 @@
+package com.concerthub.global.scheduler;
+
+import com.concerthub.domain.seat.service.SeatImportService;
+import com.concerthub.domain.seat.service.SeatService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatScheduler {
+
+    private final SeatService seatService;
+    private final SeatImportService seatImportService;
+
+    /**
+     * 매 1분마다 좌석 현황 카운터 대사
+     */
+    @Scheduled(fixedDelayString = "${seat-engine.reconcile-interval-ms:60000}")
+    public void reconcileSeatSummaries() {
+        try {
+            int reloaded = seatService.reconcileSeatSummaries();
+            if (reloaded > 0) {
+                log.warn("좌석 현황 불일치로 {}개 이벤트 좌석 상태 재적재", reloaded);
+            }
+        } catch (Exception e) {
+            log.error("좌석 현황 대사 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 매 1분마다 끝난 좌석 가져오기 진행 상황 정리
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictFinishedImports() {
+        try {
+            seatImportService.evictFinishedImports();
+        } catch (Exception e) {
+            log.error("좌석 가져오기 진행 상황 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.concerthub.global.scheduler;
+
+import com.concerthub.domain.seat.service.SeatStreamService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatStreamScheduler {
+
+    private final SeatStreamService seatStreamService;
+
+    /**
+     * 좌석 스트림 연결 유지 (프록시 유휴 연결 종료 방지)
+     */
+    @Scheduled(fixedRateString = "${seat-stream.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        try {
+            seatStreamService.sendHeartbeats();
+        } catch (Exception e) {
+            log.error("좌석 스트림 하트비트 전송 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.concerthub.global.scheduler;
+
+import com.concerthub.domain.queue.service.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomScheduler {
+
+    private final WaitingRoomService waitingRoomService;
+
+    /**
+     * 매 1초마다 대기열 입장 허용
+     */
+    @Scheduled(fixedRate = 1000)
+    public void admitWaitingUsers() {
+        try {
+            waitingRoomService.admitWaitingUsers();
+        } catch (Exception e) {
+            log.error("대기열 입장 처리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 매 1분마다 닫혔거나 모두 입장한 이벤트 대기열 정리
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void clearFinishedQueues() {
+        try {
+            int cleared = waitingRoomService.clearFinishedQueues();
+            if (cleared > 0) {
+                log.debug("대기열 정리: {}개 이벤트", cleared);
+            }
+        } catch (Exception e) {
+            log.error("대기열 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+-- 기준 스키마 (ddl-auto 로 관리하던 시점의 엔티티 매핑과 동일)
+-- 이미 ddl-auto 로 생성된 DB 는 baseline-on-migrate 로 이 버전을 건너뛴다.
+
+CREATE TABLE users
+(
+    id           BIGINT                 NOT NULL AUTO_INCREMENT,
+    name         VARCHAR(50)            NOT NULL,
+    email        VARCHAR(100)           NOT NULL,
+    phone_number VARCHAR(20)            NOT NULL,
+    password     VARCHAR(255)           NOT NULL,
+    role         ENUM ('USER', 'ADMIN') NOT NULL,
+    created_at   DATETIME(6)            NOT NULL,
+    updated_at   DATETIME(6)            NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE venue_layouts
+(
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    name       VARCHAR(100) NOT NULL,
+    venue      VARCHAR(100) NOT NULL,
+    seat_count INTEGER      NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE venue_layout_seats
+(
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    layout_id   BIGINT      NOT NULL,
+    section     VARCHAR(20) NOT NULL,
+    seat_row    VARCHAR(5)  NOT NULL,
+    seat_number VARCHAR(10) NOT NULL,
+    section_idx INTEGER     NOT NULL,
+    row_idx     INTEGER     NOT NULL,
+    seat_idx    INTEGER     NOT NULL,
+    price_rate  INTEGER     NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_venue_layout_seats_label UNIQUE (layout_id, section, seat_row, seat_number),
+    INDEX idx_venue_layout_seats_layout_row_seat (layout_id, row_idx, seat_idx),
+    CONSTRAINT fk_venue_layout_seats_layout FOREIGN KEY (layout_id) REFERENCES venue_layouts (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE events
+(
+    id              BIGINT                                          NOT NULL AUTO_INCREMENT,
+    title           VARCHAR(100)                                    NOT NULL,
+    description     VARCHAR(1000),
+    venue           VARCHAR(100)                                    NOT NULL,
+    event_date_time DATETIME(6)                                     NOT NULL,
+    total_seats     INTEGER                                         NOT NULL,
+    available_seats INTEGER                                         NOT NULL,
+    price           INTEGER                                         NOT NULL,
+    status          ENUM ('OPEN', 'SOLD_OUT', 'CLOSED', 'CANCELLED') NOT NULL,
+    venue_layout_id BIGINT,
+    created_at      DATETIME(6)                                     NOT NULL,
+    updated_at      DATETIME(6)                                     NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE seats
+(
+    id                    BIGINT                                                     NOT NULL AUTO_INCREMENT,
+    event_id              BIGINT                                                     NOT NULL,
+    section               VARCHAR(20)                                                NOT NULL,
+    seat_row              VARCHAR(5)                                                 NOT NULL,
+    seat_number           VARCHAR(10)                                                NOT NULL,
+    section_idx           INTEGER,
+    row_idx               INTEGER,
+    seat_idx              INTEGER,
+    price                 INTEGER                                                    NOT NULL,
+    status                ENUM ('AVAILABLE', 'TEMPORARILY_RESERVED', 'RESERVED', 'BLOCKED') NOT NULL,
+    temporary_reserved_at DATETIME(6),
+    created_at            DATETIME(6)                                                NOT NULL,
+    updated_at            DATETIME(6)                                                NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_seats_label UNIQUE (event_id, section, seat_row, seat_number),
+    INDEX idx_seats_event_status_row_seat (event_id, status, row_idx, seat_idx),
+    INDEX idx_seats_event_row_seat (event_id, row_idx, seat_idx),
+    CONSTRAINT fk_seats_event FOREIGN KEY (event_id) REFERENCES events (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reservations
+(
+    id          BIGINT                                               NOT NULL AUTO_INCREMENT,
+    event_id    BIGINT                                               NOT NULL,
+    seat_id     BIGINT                                               NOT NULL,
+    user_id     BIGINT                                               NOT NULL,
+    status      ENUM ('PENDING', 'CONFIRMED', 'CANCELLED', 'EXPIRED') NOT NULL,
+    total_price INTEGER                                              NOT NULL,
+    expires_at  DATETIME(6),
+    payment_id  VARCHAR(255),
+    created_at  DATETIME(6)                                          NOT NULL,
+    updated_at  DATETIME(6)                                          NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_reservations_status_expires_at (status, expires_at),
+    CONSTRAINT fk_reservations_event FOREIGN KEY (event_id) REFERENCES events (id),
+    CONSTRAINT fk_reservations_seat FOREIGN KEY (seat_id) REFERENCES seats (id),
+    CONSTRAINT fk_reservations_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE refresh_tokens
+(
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NOT NULL,
+    token      VARCHAR(512) NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE blacklisted_tokens
+(
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    token      VARCHAR(512) NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_blacklisted_tokens_token UNIQUE (token)
+) ENGINE = InnoDB;
+
+CREATE TABLE idempotency_records
+(
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    idempotency_key VARCHAR(400) NOT NULL,
+    status_code     INTEGER      NOT NULL,
+    content_type    VARCHAR(100),
+    response_body   MEDIUMTEXT   NOT NULL,
+    expires_at      DATETIME(6)  NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_idempotency_records_key UNIQUE (idempotency_key),
+    INDEX idx_idempotency_records_expires_at (expires_at)
+) ENGINE = InnoDB;
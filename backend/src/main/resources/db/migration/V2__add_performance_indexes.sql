@@ -0,0 +1,20 @@
+-- 조회 경로별 인덱스 (QueryPlanTest 가 EXPLAIN 으로 풀 스캔 여부를 검사)
+
+-- findActiveBySeatId / findActiveSeatIds: 좌석별 진행 중 예약
+CREATE INDEX idx_reservations_seat_status ON reservations (seat_id, status);
+
+-- findViewsByUserId: 사용자 예약 목록 (최신순)
+CREATE INDEX idx_reservations_user_created_at ON reservations (user_id, created_at);
+
+-- findByEventIdWithDetails / 관리자 예약 검색: 이벤트별 예약 (생성일 기준)
+CREATE INDEX idx_reservations_event_created_at ON reservations (event_id, created_at);
+
+-- lockExpiredTemporaryReservations: 만료된 임시 예약 좌석
+CREATE INDEX idx_seats_status_temporary_reserved_at ON seats (status, temporary_reserved_at);
+
+-- findByToken: 토큰 재발급
+CREATE INDEX idx_refresh_tokens_token ON refresh_tokens (token);
+
+-- deleteExpiredTokens: 만료 토큰 정리
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+CREATE INDEX idx_blacklisted_tokens_expires_at ON blacklisted_tokens (expires_at);
@@ -0,0 +1,10 @@
+-- 이벤트 목록 키셋 페이지 (EventSearchRepository.findPage): 조건별 인덱스에서 event_date_time, id 순서로 읽는다
+
+-- 필터 없음 / 일시 범위
+CREATE INDEX idx_events_date_time_id ON events (event_date_time, id);
+
+-- 상태 필터 (예약 가능한 이벤트 목록 포함)
+CREATE INDEX idx_events_status_date_time_id ON events (status, event_date_time, id);
+
+-- 장소 필터
+CREATE INDEX idx_events_venue_date_time_id ON events (venue, event_date_time, id);
@@ -0,0 +1,5 @@
+-- 예매 오픈 시각 (NULL 이면 생성 즉시 예매 가능)
+ALTER TABLE events ADD COLUMN on_sale_at DATETIME(6) NULL AFTER status;
+
+-- 오픈 직전 이벤트 사전 준비 (EventRepository.findByOnSaleAtBetween)
+CREATE INDEX idx_events_on_sale_at ON events (on_sale_at);
@@ -0,0 +1,12 @@
+-- 관리자 예약 검색 키셋 페이지 (ReservationSearchRepository): ORDER BY created_at, id 를 인덱스 순서로 읽는다
+-- InnoDB 보조 인덱스 끝에는 PK(id) 가 붙으므로 (…, created_at) 인덱스가 곧 (…, created_at, id) 순서다.
+-- 이벤트 필터는 idx_reservations_event_created_at, 사용자 필터는 idx_reservations_user_created_at 을 그대로 쓴다.
+
+-- 필터 없음 / 생성일시 범위
+CREATE INDEX idx_reservations_created_at ON reservations (created_at);
+
+-- 상태 필터
+CREATE INDEX idx_reservations_status_created_at ON reservations (status, created_at);
+
+-- 사용자 이름 앞부분 일치 (이메일은 uk_users_email)
+CREATE INDEX idx_users_name ON users (name);
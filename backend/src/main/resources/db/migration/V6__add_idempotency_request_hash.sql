@@ -0,0 +1,2 @@
+-- 멱등 키를 다른 요청 본문으로 재사용했는지 판별하기 위한 요청 지문 (SHA-256 hex, 기존 행은 NULL → 검사 생략)
+ALTER TABLE idempotency_records ADD COLUMN request_hash CHAR(64) NULL;
@@ -0,0 +1,47 @@
+-- ddl-auto 로 만든 기존 DB 정리 (baseline-on-migrate 로 V1 을 건너뛴 DB)
+-- 구역(section) 도입 전 Hibernate 가 만든 (event_id, seat_row, seat_number) 유니크 키가 남아 있으면
+-- 구역이 다른 같은 행/번호 좌석(다구역 가져오기, 공연장 배치 복제)이 중복 키로 실패하므로 삭제한다.
+-- Hibernate 가 만든 키 이름은 해시라 컬럼 구성으로 찾는다. (MySQL 은 DROP INDEX IF EXISTS 미지원)
+
+-- 구역 포함 유니크 키가 없는 DB 면 먼저 추가해 중복 방지가 끊기지 않게 한다 (V1 으로 만든 DB 에는 uk_seats_label 이 이미 있음)
+SET @has_seat_label_key = (
+    SELECT COUNT(*)
+    FROM (
+        SELECT index_name
+        FROM information_schema.statistics
+        WHERE table_schema = DATABASE()
+          AND table_name = 'seats'
+          AND non_unique = 0
+        GROUP BY index_name
+        HAVING GROUP_CONCAT(column_name ORDER BY seq_in_index) = 'event_id,section,seat_row,seat_number'
+    ) label_keys
+);
+
+SET @add_seat_label_key = IF(@has_seat_label_key > 0,
+    'DO 0',
+    'ALTER TABLE seats ADD CONSTRAINT uk_seats_label UNIQUE (event_id, section, seat_row, seat_number)');
+
+PREPARE add_seat_label_key FROM @add_seat_label_key;
+EXECUTE add_seat_label_key;
+DEALLOCATE PREPARE add_seat_label_key;
+
+-- 구역 없는 옛 유니크 키 삭제
+SET @legacy_seat_key = (
+    SELECT index_name
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'seats'
+      AND non_unique = 0
+      AND index_name <> 'PRIMARY'
+    GROUP BY index_name
+    HAVING GROUP_CONCAT(column_name ORDER BY seq_in_index) = 'event_id,seat_row,seat_number'
+    LIMIT 1
+);
+
+SET @drop_legacy_seat_key = IF(@legacy_seat_key IS NULL,
+    'DO 0',
+    CONCAT('ALTER TABLE seats DROP INDEX `', @legacy_seat_key, '`'));
+
+PREPARE drop_legacy_seat_key FROM @drop_legacy_seat_key;
+EXECUTE drop_legacy_seat_key;
+DEALLOCATE PREPARE drop_legacy_seat_key;
@@ -0,0 +1,12 @@
+-- 예약 확정 실패 후 결제 취소까지 실패한 건 (수동 대사 대상, 재기동 후에도 남도록 메모리 핸들과 별도 저장)
+CREATE TABLE payment_refund_failures
+(
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    reservation_id BIGINT       NOT NULL,
+    payment_id     VARCHAR(100) NOT NULL,
+    reason         VARCHAR(500),
+    resolved_at    DATETIME(6),
+    created_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_payment_refund_failures_resolved_at (resolved_at, created_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,111 @@
+package com.concerthub.backend;
+
+import com.concerthub.backend.support.QueryCountInspector;
+import com.concerthub.domain.event.entity.Event;
+import com.concerthub.domain.event.service.EventService;
+import com.concerthub.domain.reservation.service.ReservationService;
+import com.concerthub.domain.seat.entity.Seat;
+import com.concerthub.domain.seat.service.SeatService;
+import com.concerthub.domain.user.entity.User;
+import com.concerthub.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 목록 조회 API 는 결과 건수와 무관하게 같은 수의 SQL 만 실행해야 한다. (N+1 방지)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ListingQueryCountTest {
+
+	private static final int PRICE = 100000;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private SeatService seatService;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void seatListingsIssueConstantNumberOfQueries() throws Exception {
+		Long smallEventId = createEvent("small", 1, 1);
+		Long largeEventId = createEvent("large", 5, 10);
+
+		int small = countQueries("/api/events/" + smallEventId + "/seats");
+		int large = countQueries("/api/events/" + largeEventId + "/seats");
+		assertThat(large).isEqualTo(small).isLessThanOrEqualTo(2);
+
+		int smallAvailable = countQueries("/api/events/" + smallEventId + "/seats/available");
+		int largeAvailable = countQueries("/api/events/" + largeEventId + "/seats/available");
+		assertThat(largeAvailable).isEqualTo(smallAvailable).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	void userReservationListingIssuesConstantNumberOfQueries() throws Exception {
+		Long singleUserId = createUser("single");
+		reserveOnNewEvent(singleUserId, "single-0");
+
+		Long multiUserId = createUser("multi");
+		for (int i = 0; i < 5; i++) {
+			reserveOnNewEvent(multiUserId, "multi-" + i);
+		}
+
+		int single = countQueries("/api/reservations/user/" + singleUserId);
+		int multi = countQueries("/api/reservations/user/" + multiUserId);
+		assertThat(multi).isEqualTo(single).isLessThanOrEqualTo(2);
+	}
+
+	private int countQueries(String url) throws Exception {
+		QueryCountInspector.reset();
+		mockMvc.perform(get(url).with(user("tester")))
+				.andExpect(status().isOk());
+		return QueryCountInspector.count();
+	}
+
+	private Long createEvent(String title, int rows, int seatsPerRow) {
+		Event event = eventService.createEvent(title, "query count", "test-hall",
+				LocalDateTime.now().plusDays(30), rows * seatsPerRow, PRICE);
+		seatService.createSeats(event.getId(), rows, seatsPerRow, PRICE);
+		return event.getId();
+	}
+
+	private Long createUser(String name) {
+		User user = userRepository.save(User.builder()
+				.name(name)
+				.email(name + "@concerthub.local")
+				.phoneNumber("010-0000-0000")
+				.password("test")
+				.build());
+		return user.getId();
+	}
+
+	private void reserveOnNewEvent(Long userId, String title) {
+		Event event = eventService.createEvent(title, "query count", "test-hall",
+				LocalDateTime.now().plusDays(30), 1, PRICE);
+		List<Seat> seats = seatService.createSeats(event.getId(), 1, 1, PRICE);
+		reservationService.createReservation(event.getId(), seats.get(0).getId(), userId);
+	}
+
+}
@@ -0,0 +1,320 @@
+package com.concerthub.backend;
+
+import com.concerthub.backend.support.SqlCaptureInterceptor;
+import com.concerthub.domain.auth.repository.BlacklistedTokenRepository;
+import com.concerthub.domain.auth.repository.RefreshTokenRepository;
+import com.concerthub.domain.event.entity.status.EventStatus;
+import com.concerthub.domain.event.repository.EventSearchCondition;
+import com.concerthub.domain.event.repository.EventSearchRepository;
+import com.concerthub.domain.reservation.entity.status.ReservationStatus;
+import com.concerthub.domain.reservation.repository.ReservationRepository;
+import com.concerthub.domain.reservation.repository.ReservationSearchCondition;
+import com.concerthub.domain.reservation.repository.ReservationSearchRepository;
+import com.concerthub.domain.seat.entity.status.SeatStatus;
+import com.concerthub.domain.seat.repository.SeatRepository;
+import com.concerthub.domain.user.repository.UserRepository;
+import com.concerthub.global.idempotency.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 경로 쿼리의 실행 계획 회귀 검사 (MySQL 컨테이너 + Flyway 마이그레이션, ddl-auto validate)
+ * 리포지토리 메서드를 실제로 실행해 드라이버가 보낸 SQL 을 EXPLAIN 하고, 풀 테이블 스캔(type=ALL)이 있으면 실패한다.
+ * Docker 가 없는 환경에서는 건너뛴다.
+ */
+@SpringBootTest(properties = {
+		"spring.jpa.show-sql=false",
+		"seat-engine.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+	private static final int USERS = 200;
+	private static final int EVENTS = 20;
+	private static final int CATALOG_EVENTS = 2000;
+	private static final int SEATS_PER_EVENT = 200;
+	private static final int SEATS_PER_ROW = 20;
+	private static final int TOKENS = 500;
+	private static final EventSearchCondition ALL_EVENTS = new EventSearchCondition(null, null, null, null, false);
+	private static final ReservationSearchCondition NO_FILTER = new ReservationSearchCondition(null, null, null, null, null, null);
+	private static final List<ReservationStatus> ACTIVE = List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+
+	// 드라이버 내부 조회(SELECT @@...)와 트랜잭션 제어문은 제외
+	private static final Pattern STATEMENT = Pattern.compile("\\s*(select|update|delete)\\s+(?!@@)", Pattern.CASE_INSENSITIVE);
+
+	@Container
+	@ServiceConnection
+	static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+			.withUrlParam("queryInterceptors", SqlCaptureInterceptor.class.getName());
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private EventSearchRepository eventSearchRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private ReservationSearchRepository reservationSearchRepository;
+
+	@Autowired
+	private SeatRepository seatRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Autowired
+	private BlacklistedTokenRepository blacklistedTokenRepository;
+
+	@Autowired
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+
+	@BeforeAll
+	void seed() {
+		transactionTemplate.executeWithoutResult(status -> {
+			Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+			Timestamp past = Timestamp.valueOf(LocalDateTime.now().minusMinutes(20));
+			Timestamp future = Timestamp.valueOf(LocalDateTime.now().plusDays(7));
+
+			jdbcTemplate.batchUpdate("INSERT INTO users (id, name, email, phone_number, password, role, created_at, updated_at) " +
+					"VALUES (?, ?, ?, '010-0000-0000', 'plan', 'USER', ?, ?)", ids(USERS), USERS, (ps, id) -> {
+				ps.setLong(1, id);
+				ps.setString(2, "user-" + id);
+				ps.setString(3, "user-" + id + "@concerthub.local");
+				ps.setTimestamp(4, now);
+				ps.setTimestamp(5, now);
+			});
+
+			jdbcTemplate.batchUpdate("INSERT INTO events (id, title, venue, event_date_time, total_seats, available_seats, price, " +
+					"status, created_at, updated_at) VALUES (?, ?, 'plan-hall', ?, ?, ?, 100000, 'OPEN', ?, ?)", ids(EVENTS), EVENTS, (ps, id) -> {
+				ps.setLong(1, id);
+				ps.setString(2, "event-" + id);
+				ps.setTimestamp(3, future);
+				ps.setInt(4, SEATS_PER_EVENT);
+				ps.setInt(5, SEATS_PER_EVENT / 2);
+				ps.setTimestamp(6, now);
+				ps.setTimestamp(7, now);
+			});
+
+			// 목록용 이벤트 (좌석 없음): 장소 20곳, 10개마다 종료, 1시간 간격 공연 일시
+			List<Integer> catalogIds = IntStream.rangeClosed(EVENTS + 1, EVENTS + CATALOG_EVENTS).boxed().toList();
+			jdbcTemplate.batchUpdate("INSERT INTO events (id, title, venue, event_date_time, total_seats, available_seats, price, " +
+					"status, created_at, updated_at) VALUES (?, ?, ?, ?, 100, ?, 100000, ?, ?, ?)", catalogIds, CATALOG_EVENTS, (ps, id) -> {
+				boolean closed = id % 10 == 0;
+				ps.setLong(1, id);
+				ps.setString(2, "event-" + id);
+				ps.setString(3, "hall-" + id % 20);
+				ps.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now().plusHours(id)));
+				ps.setInt(5, closed ? 0 : 100);
+				ps.setString(6, (closed ? EventStatus.CLOSED : EventStatus.OPEN).name());
+				ps.setTimestamp(7, now);
+				ps.setTimestamp(8, now);
+			});
+
+			// 좌석: 짝수 번호는 예약 완료, 50번째마다 만료된 임시 예약
+			jdbcTemplate.batchUpdate("INSERT INTO seats (id, event_id, section, seat_row, seat_number, section_idx, row_idx, seat_idx, " +
+					"price, status, temporary_reserved_at, created_at, updated_at) VALUES (?, ?, '', ?, ?, 0, ?, ?, 100000, ?, ?, ?, ?)",
+					ids(EVENTS * SEATS_PER_EVENT), SEATS_PER_EVENT, (ps, id) -> {
+				int index = (id - 1) % SEATS_PER_EVENT;
+				SeatStatus seatStatus = seatStatus(id);
+				ps.setLong(1, id);
+				ps.setLong(2, (id - 1) / SEATS_PER_EVENT + 1);
+				ps.setString(3, String.valueOf((char) ('A' + index / SEATS_PER_ROW)));
+				ps.setString(4, String.valueOf(index % SEATS_PER_ROW + 1));
+				ps.setInt(5, index / SEATS_PER_ROW);
+				ps.setInt(6, index % SEATS_PER_ROW);
+				ps.setString(7, seatStatus.name());
+				ps.setTimestamp(8, seatStatus == SeatStatus.TEMPORARILY_RESERVED ? past : null);
+				ps.setTimestamp(9, now);
+				ps.setTimestamp(10, now);
+			});
+
+			// 예약: 임시 예약 좌석은 만료된 PENDING, 예약 완료 좌석은 CONFIRMED
+			List<Integer> reservedSeatIds = ids(EVENTS * SEATS_PER_EVENT).stream()
+					.filter(id -> seatStatus(id) != SeatStatus.AVAILABLE)
+					.toList();
+			jdbcTemplate.batchUpdate("INSERT INTO reservations (id, event_id, seat_id, user_id, status, total_price, expires_at, " +
+					"created_at, updated_at) VALUES (?, ?, ?, ?, ?, 100000, ?, ?, ?)", reservedSeatIds, SEATS_PER_EVENT, (ps, seatId) -> {
+				boolean pending = seatStatus(seatId) == SeatStatus.TEMPORARILY_RESERVED;
+				Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusMinutes(seatId));
+				ps.setLong(1, seatId);
+				ps.setLong(2, (seatId - 1) / SEATS_PER_EVENT + 1);
+				ps.setLong(3, seatId);
+				ps.setLong(4, seatId % USERS + 1);
+				ps.setString(5, (pending ? ReservationStatus.PENDING : ReservationStatus.CONFIRMED).name());
+				ps.setTimestamp(6, pending ? past : null);
+				ps.setTimestamp(7, createdAt);
+				ps.setTimestamp(8, createdAt);
+			});
+
+			// 토큰/멱등 기록: 50개마다 하나씩 만료
+			jdbcTemplate.batchUpdate("INSERT INTO refresh_tokens (id, user_id, token, expires_at, created_at) VALUES (?, ?, ?, ?, ?)",
+					ids(TOKENS), TOKENS, (ps, id) -> {
+				ps.setLong(1, id);
+				ps.setLong(2, id % USERS + 1);
+				ps.setString(3, "refresh-token-" + id);
+				ps.setTimestamp(4, id % 50 == 0 ? past : future);
+				ps.setTimestamp(5, now);
+			});
+			jdbcTemplate.batchUpdate("INSERT INTO blacklisted_tokens (id, token, expires_at, created_at) VALUES (?, ?, ?, ?)",
+					ids(TOKENS), TOKENS, (ps, id) -> {
+				ps.setLong(1, id);
+				ps.setString(2, "blacklisted-token-" + id);
+				ps.setTimestamp(3, id % 50 == 0 ? past : future);
+				ps.setTimestamp(4, now);
+			});
+			jdbcTemplate.batchUpdate("INSERT INTO idempotency_records (id, idempotency_key, status_code, response_body, expires_at, created_at) " +
+					"VALUES (?, ?, 200, '{}', ?, ?)", ids(TOKENS), TOKENS, (ps, id) -> {
+				ps.setLong(1, id);
+				ps.setString(2, "idempotency-key-" + id);
+				ps.setTimestamp(3, id % 50 == 0 ? past : future);
+				ps.setTimestamp(4, now);
+			});
+		});
+
+		jdbcTemplate.execute("ANALYZE TABLE users, events, seats, reservations, refresh_tokens, blacklisted_tokens, idempotency_records");
+	}
+
+	Stream<Named<Runnable>> hotQueries() {
+		LocalDateTime now = LocalDateTime.now();
+		return Stream.of(
+				query("eventSearch.findPage",
+						() -> eventSearchRepository.findPage(ALL_EVENTS, null, null, 21)),
+				query("eventSearch.findPage(cursor)",
+						() -> eventSearchRepository.findPage(ALL_EVENTS, now.plusHours(1000), 1000L, 21)),
+				query("eventSearch.findPage(from)",
+						() -> eventSearchRepository.findPage(new EventSearchCondition(
+								now.plusHours(500), null, null, null, false), null, null, 21)),
+				query("eventSearch.findPage(venue)",
+						() -> eventSearchRepository.findPage(new EventSearchCondition(
+								null, null, "hall-1", null, false), null, null, 21)),
+				query("eventSearch.findPage(status)",
+						() -> eventSearchRepository.findPage(new EventSearchCondition(
+								null, null, null, EventStatus.CLOSED, false), null, null, 21)),
+				query("eventSearch.findPage(available)",
+						() -> eventSearchRepository.findPage(new EventSearchCondition(
+								now, null, null, EventStatus.OPEN, true), null, null, 21)),
+				query("reservation.lockExpiredPendingReservations",
+						() -> reservationRepository.lockExpiredPendingReservations(now, 500)),
+				query("reservation.findActiveBySeatId",
+						() -> reservationRepository.findActiveBySeatId(2L, ACTIVE)),
+				query("reservation.findActiveSeatIds",
+						() -> reservationRepository.findActiveSeatIds(List.of(2L, 4L, 6L), ACTIVE)),
+				query("reservation.findViewsByUserId",
+						() -> reservationRepository.findViewsByUserId(1L)),
+				query("reservationSearch.findPage",
+						() -> reservationSearchRepository.findPage(NO_FILTER, null, null, true, 21)),
+				query("reservationSearch.findPage(cursor)",
+						() -> reservationSearchRepository.findPage(NO_FILTER, now.minusMinutes(2000), 2000L, true, 21)),
+				query("reservationSearch.findPage(event)",
+						() -> reservationSearchRepository.findPage(ReservationSearchCondition.ofEvent(1L), null, null, true, 21)),
+				query("reservationSearch.findPage(status)",
+						() -> reservationSearchRepository.findPage(new ReservationSearchCondition(
+								null, ReservationStatus.PENDING, null, null, null, null), null, null, true, 21)),
+				query("reservationSearch.findPage(userEmail)",
+						() -> reservationSearchRepository.findPage(new ReservationSearchCondition(
+								null, null, null, null, "user-1@concerthub.local", null), null, null, true, 21)),
+				query("reservationSearch.countUpTo(status)",
+						() -> reservationSearchRepository.countUpTo(new ReservationSearchCondition(
+								null, ReservationStatus.PENDING, null, null, null, null), 10_000)),
+				query("reservation.countByEventIdAndStatus",
+						() -> reservationRepository.countByEventIdAndStatus(1L, ReservationStatus.CONFIRMED)),
+				query("seat.findByEventIdOrderByRowIdxAscSeatIdxAsc",
+						() -> seatRepository.findByEventIdOrderByRowIdxAscSeatIdxAsc(1L)),
+				query("seat.findViewsByEventId",
+						() -> seatRepository.findViewsByEventId(1L)),
+				query("seat.findViewsByEventIdAndStatus",
+						() -> seatRepository.findViewsByEventIdAndStatus(1L, SeatStatus.AVAILABLE)),
+				query("seat.countSeatsByStatus",
+						() -> seatRepository.countSeatsByStatus(1L)),
+				query("seat.lockExpiredTemporaryReservations",
+						() -> seatRepository.lockExpiredTemporaryReservations(now, 500)),
+				query("user.findByEmail",
+						() -> userRepository.findByEmail("user-1@concerthub.local")),
+				query("refreshToken.findByToken",
+						() -> refreshTokenRepository.findByToken("refresh-token-1")),
+				query("refreshToken.deleteExpiredTokens",
+						() -> refreshTokenRepository.deleteExpiredTokens(now)),
+				query("blacklistedToken.existsByToken",
+						() -> blacklistedTokenRepository.existsByToken("blacklisted-token-1")),
+				query("blacklistedToken.deleteExpiredTokens",
+						() -> blacklistedTokenRepository.deleteExpiredTokens(now)),
+				query("idempotencyRecord.findByIdempotencyKey",
+						() -> idempotencyRecordRepository.findByIdempotencyKey("idempotency-key-1")),
+				query("idempotencyRecord.deleteExpiredRecords",
+						() -> idempotencyRecordRepository.deleteExpiredRecords(now))
+		);
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("hotQueries")
+	void hotQueryDoesNotScanWholeTable(Runnable query) {
+		String sql = captureSql(query);
+
+		List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+
+		assertThat(plan)
+				.as("EXPLAIN %s%n%s", sql, plan)
+				.noneMatch(row -> "ALL".equals(row.get("type")));
+	}
+
+	// 리포지토리 메서드가 보낸 첫 번째 SQL (쓰기 쿼리도 롤백해 데이터를 유지)
+	private String captureSql(Runnable query) {
+		SqlCaptureInterceptor.reset();
+		transactionTemplate.executeWithoutResult(status -> {
+			query.run();
+			status.setRollbackOnly();
+		});
+
+		return SqlCaptureInterceptor.captured().stream()
+				.filter(sql -> STATEMENT.matcher(sql).lookingAt())
+				.findFirst()
+				.orElseThrow(() -> new AssertionError("실행된 SQL 이 없습니다: " + SqlCaptureInterceptor.captured()));
+	}
+
+	private static Named<Runnable> query(String name, Runnable query) {
+		return Named.of(name, query);
+	}
+
+	private static SeatStatus seatStatus(int seatId) {
+		if (seatId % 50 == 0) {
+			return SeatStatus.TEMPORARILY_RESERVED;
+		}
+		return seatId % 2 == 0 ? SeatStatus.RESERVED : SeatStatus.AVAILABLE;
+	}
+
+	private static List<Integer> ids(int count) {
+		return IntStream.rangeClosed(1, count).boxed().toList();
+	}
+
+}
@@ -0,0 +1,153 @@
+package com.concerthub.backend;
+
+import com.concerthub.domain.user.entity.enums.UserRole;
+import com.concerthub.global.datasource.ReadConsistency;
+import com.concerthub.global.datasource.ReadConsistencyInterceptor;
+import com.concerthub.global.datasource.ReadRoutingContext;
+import com.concerthub.global.jwt.userdetails.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * primary/replica 라우팅 검사 (복제 없이 MySQL 컨테이너 두 개를 각각 primary, replica 로 연결)
+ * 어느 쪽에서 실행됐는지는 컨테이너마다 다른 @@hostname 으로 구분한다.
+ * Docker 가 없는 환경에서는 건너뛴다.
+ */
+@SpringBootTest(properties = {
+		"spring.jpa.show-sql=false",
+		"seat-engine.enabled=false",
+		"datasource-routing.enabled=true"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class ReadReplicaRoutingTest {
+
+	private static final Long USER_ID = 1L;
+
+	@Container
+	static final MySQLContainer<?> PRIMARY = new MySQLContainer<>("mysql:8.0");
+
+	@Container
+	static final MySQLContainer<?> REPLICA = new MySQLContainer<>("mysql:8.0");
+
+	@DynamicPropertySource
+	static void dataSources(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", PRIMARY::getJdbcUrl);
+		registry.add("spring.datasource.username", PRIMARY::getUsername);
+		registry.add("spring.datasource.password", PRIMARY::getPassword);
+		registry.add("datasource-routing.replica.url", REPLICA::getJdbcUrl);
+		registry.add("datasource-routing.replica.username", REPLICA::getUsername);
+		registry.add("datasource-routing.replica.password", REPLICA::getPassword);
+	}
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ReadRoutingContext readRoutingContext;
+
+	@Autowired
+	private ReadConsistencyInterceptor readConsistencyInterceptor;
+
+	private String primaryHost;
+	private String replicaHost;
+
+	@BeforeEach
+	void resolveHosts() {
+		primaryHost = hostOf(PRIMARY);
+		replicaHost = hostOf(REPLICA);
+		assertThat(primaryHost).isNotEqualTo(replicaHost);
+	}
+
+	@AfterEach
+	void clear() {
+		readRoutingContext.clear();
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void readOnlyTransactionOfEventualEndpointGoesToReplica() {
+		readRoutingContext.begin(ReadConsistency.Level.EVENTUAL, USER_ID);
+
+		assertThat(hostInTransaction(true)).isEqualTo(replicaHost);
+	}
+
+	@Test
+	void writeTransactionGoesToPrimary() {
+		readRoutingContext.begin(ReadConsistency.Level.EVENTUAL, USER_ID);
+
+		assertThat(hostInTransaction(false)).isEqualTo(primaryHost);
+	}
+
+	@Test
+	void strongEndpointReadsFromPrimary() {
+		readRoutingContext.begin(ReadConsistency.Level.STRONG, USER_ID);
+
+		assertThat(hostInTransaction(true)).isEqualTo(primaryHost);
+	}
+
+	@Test
+	void readsOutsideRequestGoToPrimary() {
+		assertThat(hostInTransaction(true)).isEqualTo(primaryHost);
+	}
+
+	@Test
+	void userIsPinnedToPrimaryAfterOwnWrite() {
+		Long writerId = 2L;
+		readRoutingContext.pin(writerId);
+
+		readRoutingContext.begin(ReadConsistency.Level.EVENTUAL, writerId);
+		assertThat(hostInTransaction(true)).isEqualTo(primaryHost);
+
+		readRoutingContext.begin(ReadConsistency.Level.EVENTUAL, USER_ID);
+		assertThat(hostInTransaction(true)).isEqualTo(replicaHost);
+	}
+
+	@Test
+	void writerIsPinnedBeforeResponseIsWritten() {
+		Long writerId = 3L;
+		CustomUserDetails writer = new CustomUserDetails(writerId, "writer@test.com", null, UserRole.USER, null);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(writer, null, writer.getAuthorities()));
+
+		// 쓰기 요청의 핸들러 실행 전(응답 전송 전)에 이미 고정되어 있어야 한다
+		readConsistencyInterceptor.preHandle(
+				new MockHttpServletRequest("POST", "/api/reservations"), new MockHttpServletResponse(), null);
+		readRoutingContext.clear();
+
+		readRoutingContext.begin(ReadConsistency.Level.EVENTUAL, writerId);
+		assertThat(hostInTransaction(true)).isEqualTo(primaryHost);
+	}
+
+	private String hostInTransaction(boolean readOnly) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(readOnly);
+		return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT @@hostname", String.class));
+	}
+
+	private static String hostOf(MySQLContainer<?> container) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				container.getJdbcUrl(), container.getUsername(), container.getPassword());
+		return new JdbcTemplate(dataSource).queryForObject("SELECT @@hostname", String.class);
+	}
+}
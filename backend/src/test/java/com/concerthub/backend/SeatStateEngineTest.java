@@ -0,0 +1,233 @@
+package com.concerthub.backend;
+
+import com.concerthub.domain.event.repository.EventRepository;
+import com.concerthub.domain.seat.engine.EventSeatState;
+import com.concerthub.domain.seat.engine.HoldResult;
+import com.concerthub.domain.seat.engine.SeatChangeListener;
+import com.concerthub.domain.seat.engine.SeatStateEngine;
+import com.concerthub.domain.seat.entity.Seat;
+import com.concerthub.domain.seat.entity.status.SeatStatus;
+import com.concerthub.domain.seat.event.SeatStatusChangedEvent;
+import com.concerthub.domain.seat.repository.SeatRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인메모리 좌석 상태 엔진의 동시 선점/해제/확정 전이 검사 (DB 없이 좌석 목록을 직접 적재)
+ * 트랜잭션 동기화가 없으므로 선점은 CAS 만 수행하고, 확정은 커밋 후 이벤트(onSeatStatusChanged)로 반영한다.
+ */
+class SeatStateEngineTest {
+
+	private static final Long EVENT_ID = 1L;
+	private static final int ROWS = 4;
+	private static final int SEATS_PER_ROW = 10;
+	private static final int THREADS = 16;
+
+	private SeatRepository seatRepository;
+	private SeatStateEngine engine;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		seatRepository = mock(SeatRepository.class);
+		when(seatRepository.findByEventIdOrderByRowIdxAscSeatIdxAsc(EVENT_ID)).thenReturn(seats());
+
+		engine = new SeatStateEngine(seatRepository, mock(EventRepository.class),
+				new DefaultListableBeanFactory().getBeanProvider(SeatChangeListener.class),
+				mock(PlatformTransactionManager.class));
+		ReflectionTestUtils.setField(engine, "changeLogSize", 1024);
+
+		executor = Executors.newFixedThreadPool(THREADS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentHoldsOnSameSeatHaveSingleWinner() throws Exception {
+		List<HoldResult> results = runConcurrently(THREADS, i -> engine.holdWithinTransaction(EVENT_ID, 1L));
+
+		assertThat(results).filteredOn(result -> result == HoldResult.HELD).hasSize(1);
+		assertThat(results).filteredOn(result -> result == HoldResult.UNAVAILABLE).hasSize(THREADS - 1);
+
+		EventSeatState state = engine.getState(EVENT_ID);
+		assertThat(state.statusAt(state.ordinalOf(1L))).isEqualTo(SeatStatus.TEMPORARILY_RESERVED);
+		assertThat(state.countOf(SeatStatus.TEMPORARILY_RESERVED)).isEqualTo(1);
+	}
+
+	@Test
+	void repeatedHoldAndReleaseLeavesAllSeatsAvailable() throws Exception {
+		int seatCount = ROWS * SEATS_PER_ROW;
+		AtomicInteger held = new AtomicInteger();
+
+		runConcurrently(THREADS, i -> {
+			for (int round = 0; round < 1000; round++) {
+				long seatId = (i * 7L + round) % seatCount + 1;
+				if (engine.holdWithinTransaction(EVENT_ID, seatId) == HoldResult.HELD) {
+					held.incrementAndGet();
+					engine.release(EVENT_ID, seatId);
+				}
+			}
+			return null;
+		});
+
+		EventSeatState state = engine.getState(EVENT_ID);
+		assertThat(held.get()).isPositive();
+		assertThat(state.countOf(SeatStatus.AVAILABLE)).isEqualTo(seatCount);
+		assertThat(state.countOf(SeatStatus.TEMPORARILY_RESERVED)).isZero();
+		assertThat(engine.findBestContiguousSeats(EVENT_ID, SEATS_PER_ROW)).hasSize(SEATS_PER_ROW);
+	}
+
+	@Test
+	void confirmedSeatIsNeitherReleasedNorHeldAgain() throws Exception {
+		int seatCount = ROWS * SEATS_PER_ROW;
+		for (long seatId = 1; seatId <= seatCount; seatId++) {
+			assertThat(engine.holdWithinTransaction(EVENT_ID, seatId)).isEqualTo(HoldResult.HELD);
+		}
+
+		// 홀수 좌석은 확정, 짝수 좌석은 해제되는 동안 다른 요청이 모든 좌석을 선점 시도
+		AtomicInteger competitorHolds = new AtomicInteger();
+		runConcurrently(THREADS, i -> {
+			for (long seatId = 1; seatId <= seatCount; seatId++) {
+				if (i == 0) {
+					if (seatId % 2 == 1) {
+						engine.onSeatStatusChanged(new SeatStatusChangedEvent(
+								EVENT_ID, seatId, SeatStatus.TEMPORARILY_RESERVED, SeatStatus.RESERVED));
+					} else {
+						engine.release(EVENT_ID, seatId);
+					}
+				} else if (engine.holdWithinTransaction(EVENT_ID, seatId) == HoldResult.HELD) {
+					competitorHolds.incrementAndGet();
+				}
+			}
+			return null;
+		});
+
+		EventSeatState state = engine.getState(EVENT_ID);
+		for (long seatId = 1; seatId <= seatCount; seatId += 2) {
+			assertThat(state.statusAt(state.ordinalOf(seatId))).isEqualTo(SeatStatus.RESERVED);
+		}
+		assertThat(state.countOf(SeatStatus.RESERVED)).isEqualTo(seatCount / 2);
+		assertThat(competitorHolds.get()).isLessThanOrEqualTo(seatCount / 2);
+		assertThat(state.countOf(SeatStatus.TEMPORARILY_RESERVED)).isEqualTo(competitorHolds.get());
+		assertThat(state.countOf(SeatStatus.AVAILABLE)).isEqualTo(seatCount / 2 - competitorHolds.get());
+	}
+
+	@Test
+	void concurrentFirstAccessSharesOneState() throws Exception {
+		List<EventSeatState> results = runConcurrently(THREADS, i -> engine.getState(EVENT_ID));
+
+		assertThat(results).allSatisfy(state -> assertThat(state).isSameAs(results.get(0)));
+		assertThat(engine.getLoadedEventIds()).containsExactly(EVENT_ID);
+	}
+
+	@Test
+	void eventWithoutSeatsIsNotReloadedUntilEvicted() {
+		Long emptyEventId = 2L;
+		when(seatRepository.findByEventIdOrderByRowIdxAscSeatIdxAsc(emptyEventId)).thenReturn(List.of());
+
+		assertThat(engine.getState(emptyEventId)).isNull();
+		assertThat(engine.getState(emptyEventId)).isNull();
+		verify(seatRepository, times(1)).findByEventIdOrderByRowIdxAscSeatIdxAsc(emptyEventId);
+
+		// 좌석 생성 후 evict 되면 다시 적재
+		engine.evict(emptyEventId);
+		assertThat(engine.getState(emptyEventId)).isNull();
+		verify(seatRepository, times(2)).findByEventIdOrderByRowIdxAscSeatIdxAsc(emptyEventId);
+	}
+
+	@Test
+	void reconcileSkipsCountsReadBeforeLaterCommit() {
+		int seatCount = ROWS * SEATS_PER_ROW;
+		EventSeatState state = engine.getState(EVENT_ID);
+
+		// DB 집계 이후 확정이 커밋되어 메모리만 앞선 상황: 두 번 연속이어도 재적재하지 않음
+		for (int round = 0; round < 2; round++) {
+			long readVersion = engine.getSeatMapVersion(EVENT_ID);
+			Map<SeatStatus, Integer> committedCounts = new EnumMap<>(SeatStatus.class);
+			committedCounts.put(SeatStatus.AVAILABLE, seatCount - round);
+			committedCounts.put(SeatStatus.RESERVED, round);
+
+			engine.onSeatStatusChanged(new SeatStatusChangedEvent(
+					EVENT_ID, round + 1L, SeatStatus.AVAILABLE, SeatStatus.RESERVED));
+
+			assertThat(engine.reconcileCounts(EVENT_ID, readVersion, committedCounts)).isFalse();
+		}
+		assertThat(engine.getState(EVENT_ID)).isSameAs(state);
+
+		// 같은 버전에서 두 번 연속 어긋나면 재적재
+		long readVersion = engine.getSeatMapVersion(EVENT_ID);
+		Map<SeatStatus, Integer> drifted = Map.of(SeatStatus.AVAILABLE, seatCount);
+		assertThat(engine.reconcileCounts(EVENT_ID, readVersion, drifted)).isFalse();
+		assertThat(engine.reconcileCounts(EVENT_ID, readVersion, drifted)).isTrue();
+	}
+
+	// 모든 작업을 동시에 출발시키고 결과를 작업 순서대로 반환
+	private <T> List<T> runConcurrently(int tasks, IndexedTask<T> task) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<T>> futures = new ArrayList<>();
+		for (int i = 0; i < tasks; i++) {
+			int index = i;
+			Callable<T> callable = () -> {
+				start.await();
+				return task.run(index);
+			};
+			futures.add(executor.submit(callable));
+		}
+
+		start.countDown();
+		List<T> results = new ArrayList<>();
+		for (Future<T> future : futures) {
+			results.add(future.get(10, TimeUnit.SECONDS));
+		}
+		return results;
+	}
+
+	private static List<Seat> seats() {
+		List<Seat> seats = new ArrayList<>();
+		long id = 1;
+		for (int row = 0; row < ROWS; row++) {
+			for (int number = 1; number <= SEATS_PER_ROW; number++) {
+				Seat seat = Seat.builder()
+						.seatRow(String.valueOf((char) ('A' + row)))
+						.seatNumber(String.valueOf(number))
+						.price(100000)
+						.rowIdx(row)
+						.seatIdx(number - 1)
+						.build();
+				ReflectionTestUtils.setField(seat, "id", id++);
+				seats.add(seat);
+			}
+		}
+		return seats;
+	}
+
+	@FunctionalInterface
+	private interface IndexedTask<T> {
+		T run(int index) throws Exception;
+	}
+}
@@ -0,0 +1,27 @@
+package com.concerthub.backend.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 현재 스레드에서 Hibernate 가 실행한 SQL 수 집계
+ * 스케줄러 등 다른 스레드의 쿼리는 세지 않는다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+	private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+	public static void reset() {
+		COUNT.get()[0] = 0;
+	}
+
+	public static int count() {
+		return COUNT.get()[0];
+	}
+
+	@Override
+	public String inspect(String sql) {
+		COUNT.get()[0]++;
+		return sql;
+	}
+
+}
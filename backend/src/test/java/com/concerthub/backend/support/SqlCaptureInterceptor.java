@@ -0,0 +1,60 @@
+package com.concerthub.backend.support;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.log.Log;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ServerSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+/**
+ * MySQL 드라이버가 서버로 보낸 SQL 을 파라미터 값이 채워진 그대로 수집 (queryInterceptors URL 옵션으로 등록)
+ * 현재 스레드에서 실행한 SQL 만 모은다.
+ */
+public class SqlCaptureInterceptor implements QueryInterceptor {
+
+	private static final ThreadLocal<List<String>> CAPTURED = ThreadLocal.withInitial(ArrayList::new);
+
+	public static void reset() {
+		CAPTURED.get().clear();
+	}
+
+	public static List<String> captured() {
+		return List.copyOf(CAPTURED.get());
+	}
+
+	@Override
+	public QueryInterceptor init(MysqlConnection conn, Properties props, Log log) {
+		return this;
+	}
+
+	@Override
+	public <T extends Resultset> T preProcess(Supplier<String> sql, Query interceptedQuery) {
+		String statement = sql != null ? sql.get() : null;
+		if (statement != null) {
+			CAPTURED.get().add(statement);
+		}
+		return null;
+	}
+
+	@Override
+	public boolean executeTopLevelOnly() {
+		return true;
+	}
+
+	@Override
+	public void destroy() {
+	}
+
+	@Override
+	public <T extends Resultset> T postProcess(Supplier<String> sql, Query interceptedQuery,
+											   T originalResultSet, ServerSession serverSession) {
+		return null;
+	}
+
+}
@@ -3,11 +3,15 @@ import { Link, useNavigate } from 'react-router-dom';
 import { useAuth } from '../contexts/AuthContext';
 import apiClient from '../api/client';
 import type { ApiResponse } from '../types/auth';
-import type { Event } from '../types';
+import type { Event, EventPage } from '../types';
+
+const PAGE_SIZE = 12;
 
 const EventListPage = () => {
   const [events, setEvents] = useState<Event[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState<string | null>(null);
   const { logout } = useAuth();
   const navigate = useNavigate();
@@ -21,11 +25,20 @@ const EventListPage = () => {
     fetchEvents();
   }, []);
 
+  const fetchPage = async (cursor: string | null) => {
+    const response = await apiClient.get<ApiResponse<EventPage>>('/events', {
+      params: { size: PAGE_SIZE, cursor: cursor ?? undefined },
+    });
+    return response.data.data;
+  };
+
   const fetchEvents = async () => {
     try {
       setLoading(true);
-      const response = await apiClient.get<ApiResponse<Event[]>>('/events');
-      setEvents(response.data.data);
+      setError(null);
+      const page = await fetchPage(null);
+      setEvents(page.events);
+      setNextCursor(page.nextCursor);
     } catch (err) {
       setError('이벤트를 불러오는데 실패했습니다.');
       console.error(err);
@@ -34,6 +47,22 @@ const EventListPage = () => {
     }
   };
 
+  // 다음 페이지는 직전 응답의 커서 이후부터 이어서 조회
+  const fetchMoreEvents = async () => {
+    if (!nextCursor) return;
+    try {
+      setLoadingMore(true);
+      const page = await fetchPage(nextCursor);
+      setEvents((prev) => [...prev, ...page.events]);
+      setNextCursor(page.nextCursor);
+    } catch (err) {
+      setError('이벤트를 불러오는데 실패했습니다.');
+      console.error(err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   if (loading) {
     return (
       <div className="min-h-screen bg-gray-50 flex justify-center items-center">
@@ -114,7 +143,10 @@ const EventListPage = () => {
           </div>
         ) : (
           <div className="grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 gap-6">
-            {events.map((event) => (
+            {events.map((event) => {
+              const onSale = !event.onSaleAt || new Date(event.onSaleAt) <= new Date();
+              const bookable = event.status === 'OPEN' && onSale;
+              return (
               <div
                 key={event.id}
                 className="bg-white rounded-lg shadow-md hover:shadow-lg transition-shadow p-6"
@@ -151,6 +183,14 @@ const EventListPage = () => {
                     <span className="font-medium">💰 가격:</span>
                     <span className="ml-1">{event.price.toLocaleString()}원~</span>
                   </div>
+                  {!onSale && event.onSaleAt && (
+                    <div className="flex items-center text-sm text-orange-600">
+                      <span className="font-medium">⏰ 예매 오픈:</span>
+                      <span className="ml-1">
+                        {new Date(event.onSaleAt).toLocaleString('ko-KR')}
+                      </span>
+                    </div>
+                  )}
                   <div className="flex items-center text-sm text-gray-500">
                     <span className="font-medium">🪑 잔여석:</span>
                     <span className="ml-1">{event.availableSeats} / {event.totalSeats}</span>
@@ -160,15 +200,28 @@ const EventListPage = () => {
                 <Link
                   to={`/events/${event.id}/seats`}
                   className={`block w-full py-2 px-4 rounded font-medium transition-colors text-center ${
-                    event.status === 'OPEN'
+                    bookable
                       ? 'bg-blue-600 text-white hover:bg-blue-700'
                       : 'bg-gray-300 text-gray-500 cursor-not-allowed pointer-events-none'
                   }`}
                 >
-                  {event.status === 'OPEN' ? '좌석 선택' : '예매 불가'}
+                  {bookable ? '좌석 선택' : event.status === 'OPEN' ? '오픈 예정' : '예매 불가'}
                 </Link>
               </div>
-            ))}
+              );
+            })}
+          </div>
+        )}
+
+        {nextCursor && (
+          <div className="text-center mt-8">
+            <button
+              onClick={fetchMoreEvents}
+              disabled={loadingMore}
+              className="px-6 py-2 bg-white border border-gray-300 text-gray-700 rounded-md font-medium hover:bg-gray-50 disabled:opacity-50"
+            >
+              {loadingMore ? '불러오는 중...' : '더 보기'}
+            </button>
           </div>
         )}
       </main>
@@ -3,7 +3,9 @@ import { useParams, useNavigate } from 'react-router-dom';
 import { useAuth } from '../contexts/AuthContext';
 import apiClient from '../api/client';
 import type { ApiResponse } from '../types/auth';
-import type { Event, Seat, Reservation } from '../types';
+import type { Event, Seat, SeatChange, SeatStreamToken, Reservation } from '../types';
+
+const STREAM_RETRY_DELAY_MS = 3000;
 
 const SeatSelectionPage = () => {
   const { id } = useParams<{ id: string }>();
@@ -21,6 +23,79 @@ const SeatSelectionPage = () => {
     }
   }, [id]);
 
+  // 좌석 상태 실시간 반영 (SSE)
+  useEffect(() => {
+    if (!id || !isAuthenticated) return;
+
+    let source: EventSource | null = null;
+    let retryTimer: ReturnType<typeof setTimeout> | undefined;
+    let lastVersion: number | null = null;
+    let closed = false;
+
+    const scheduleReconnect = () => {
+      if (!closed) {
+        retryTimer = setTimeout(connect, STREAM_RETRY_DELAY_MS);
+      }
+    };
+
+    const connect = async () => {
+      try {
+        // EventSource 는 헤더를 보낼 수 없어 짧게 유효한 구독 토큰을 받아 쿼리로 전달
+        const response = await apiClient.post<ApiResponse<SeatStreamToken>>(`/events/${id}/seats/stream-token`);
+        if (closed) return;
+
+        const params = new URLSearchParams({ token: response.data.data.token });
+        if (lastVersion !== null) {
+          params.set('lastEventId', String(lastVersion));
+        }
+        source = new EventSource(`${apiClient.defaults.baseURL}/events/${id}/seats/stream?${params}`);
+
+        source.addEventListener('init', (e) => {
+          // 구독 이후 변경은 스트림으로 받으므로 구독 시점 좌석 맵을 한 번 다시 조회
+          lastVersion = JSON.parse((e as MessageEvent).data).version;
+          fetchSeats(id);
+        });
+        source.addEventListener('seat', (e) => {
+          const change: SeatChange = JSON.parse((e as MessageEvent).data);
+          if (lastVersion !== null && change.version <= lastVersion) return; // 이미 반영된 변경
+          lastVersion = change.version;
+          setSeats(prev => prev.map(seat => seat.id === change.seatId ? { ...seat, status: change.status } : seat));
+          setSelectedSeat(prev => prev?.id === change.seatId && change.status !== 'AVAILABLE' ? null : prev);
+        });
+        source.addEventListener('resync', (e) => {
+          // 변경분 유실: 좌석 맵 전체를 다시 조회
+          lastVersion = JSON.parse((e as MessageEvent).data).version;
+          fetchSeats(id);
+        });
+        source.onerror = () => {
+          // 토큰은 연결 시점에만 유효하므로 브라우저 자동 재연결 대신 새 토큰으로 다시 연결
+          source?.close();
+          scheduleReconnect();
+        };
+      } catch (error) {
+        console.error('좌석 스트림 연결 실패:', error);
+        scheduleReconnect();
+      }
+    };
+
+    connect();
+
+    return () => {
+      closed = true;
+      clearTimeout(retryTimer);
+      source?.close();
+    };
+  }, [id, isAuthenticated]);
+
+  const fetchSeats = async (eventId: string) => {
+    try {
+      const response = await apiClient.get<ApiResponse<Seat[]>>(`/events/${eventId}/seats`);
+      setSeats(response.data.data);
+    } catch (error) {
+      console.error('좌석 조회 실패:', error);
+    }
+  };
+
   const fetchEventAndSeats = async (eventId: string) => {
     try {
       setLoading(true);
@@ -92,7 +167,7 @@ const SeatSelectionPage = () => {
       alert(errorMessage);
       
       // 실패 시 좌석 정보 새로고침
-      fetchEventAndSeats(id!);
+      fetchSeats(id!);
     } finally {
       setReserving(false);
     }
@@ -27,10 +27,18 @@ export interface Event {
   availableSeats: number;
   price: number;
   status: 'OPEN' | 'SOLD_OUT' | 'CLOSED' | 'CANCELLED';
+  onSaleAt: string | null; // 예매 오픈 시각 (null 이면 즉시 예매 가능)
   createdAt: string;
   updatedAt: string;
 }
 
+// 이벤트 목록 커서 페이지
+export interface EventPage {
+  events: Event[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
 // 좌석 관련 타입
 export interface Seat {
   id: number;
@@ -44,6 +52,19 @@ export interface Seat {
   expired: boolean;
 }
 
+// 좌석 스트림 구독 토큰 (EventSource 는 헤더를 못 보내 쿼리로 전달)
+export interface SeatStreamToken {
+  token: string;
+  expiresInSeconds: number;
+}
+
+// 좌석 스트림 seat 메시지
+export interface SeatChange {
+  seatId: number;
+  status: Seat['status'];
+  version: number;
+}
+
 // 사용자 관련 타입
 export interface User {
   id: number;